@@ -1,5 +1,6 @@
 import React, { useState } from 'react';
 import { useNavigate } from 'react-router-dom';
+import { saveTokens } from './auth';
 
 function LoginPage() {
   const [loginId, setLoginId] = useState('');
@@ -21,12 +22,12 @@ function LoginPage() {
     })
       .then(response => {
         if (response.ok) {
-          return response.text();
+          return response.json();
         }
         throw new Error('로그인 실패');
       })
-      .then(token => {
-        localStorage.setItem('token', token);
+      .then(tokens => {
+        saveTokens(tokens);
         alert('로그인 성공!');
         navigate('/');
       })
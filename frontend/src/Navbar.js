@@ -1,5 +1,6 @@
 import React from 'react';
 import { Link, useNavigate } from 'react-router-dom';
+import { logout } from './auth';
 
 function Navbar() {
   // 1. [추가] 페이지 이동을 위한 navigate 함수를 초기화했습니다.
@@ -8,9 +9,9 @@ function Navbar() {
 
   // 2. [추가] 로그아웃 기능을 처리하는 함수를 완성했습니다.
   const handleLogout = () => {
-    // 2-1. [추가] 로컬 스토리지에서 토큰 삭제
-    //      - 기술: Web API (localStorage)
-    localStorage.removeItem('token');
+    // 2-1. [추가] 로컬 스토리지에서 토큰 삭제 + 서버에 토큰 폐기 요청
+    //      - 기술: Web API (localStorage, fetch)
+    logout();
 
     // 2-2. [추가] 사용자에게 알림 표시
     //      - 기술: Browser API (alert)
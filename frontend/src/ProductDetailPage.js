@@ -1,5 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { useParams, useNavigate, Link } from 'react-router-dom';
+import { authFetch } from './auth';
 
 function ProductDetailPage() {
   const { id } = useParams();
@@ -33,11 +34,11 @@ function ProductDetailPage() {
     };
 
     // 3. fetch 요청 보내기
-    fetch('/api/orders', {
+    //    - authFetch가 Authorization 헤더를 붙이고, Access Token이 만료되었으면 재발급 후 다시 보냅니다.
+    authFetch('/api/orders', {
       method: 'POST',
       headers: {
         'Content-Type': 'application/json',
-        'Authorization': `Bearer ${token}`, // 4. Authorization 헤더 추가 (중요!)
       },
       body: JSON.stringify(orderData),
     })
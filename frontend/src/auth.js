@@ -0,0 +1,81 @@
+// 인증 토큰 관리 (Access/Refresh Token)
+// - Access Token은 수명이 짧으므로(15분), 만료되면 Refresh Token으로 새 토큰 쌍을 받아 요청을 다시 보냅니다.
+// - Refresh Token은 한 번 쓰면 폐기되므로, 응답으로 받은 새 Refresh Token으로 반드시 교체합니다.
+
+export function saveTokens(tokens) {
+  localStorage.setItem('token', tokens.accessToken);
+  localStorage.setItem('refreshToken', tokens.refreshToken);
+}
+
+export function clearTokens() {
+  localStorage.removeItem('token');
+  localStorage.removeItem('refreshToken');
+}
+
+// 동시에 여러 요청이 만료되어도 재발급 요청은 한 번만 보냅니다.
+let refreshing = null;
+
+function refreshTokens() {
+  const refreshToken = localStorage.getItem('refreshToken');
+  if (!refreshToken) {
+    return Promise.resolve(false);
+  }
+
+  if (!refreshing) {
+    refreshing = fetch('/api/members/refresh', {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json' },
+      body: JSON.stringify({ refreshToken }),
+    })
+      .then(response => (response.ok ? response.json() : null))
+      .then(tokens => {
+        if (!tokens) {
+          clearTokens();
+          return false;
+        }
+        saveTokens(tokens);
+        return true;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+}
+
+// Authorization 헤더를 붙여 요청하고, 토큰이 만료되었으면(403) 재발급 후 한 번 더 시도합니다.
+export function authFetch(url, options = {}) {
+  const send = () => fetch(url, {
+    ...options,
+    headers: {
+      ...options.headers,
+      'Authorization': `Bearer ${localStorage.getItem('token')}`,
+    },
+  });
+
+  return send().then(response => {
+    if (response.status !== 403) {
+      return response;
+    }
+    return refreshTokens().then(refreshed => (refreshed ? send() : response));
+  });
+}
+
+// 서버에 토큰 폐기를 요청하고 로컬 토큰을 지웁니다.
+export function logout() {
+  const token = localStorage.getItem('token');
+  const refreshToken = localStorage.getItem('refreshToken');
+  clearTokens();
+
+  if (!refreshToken) {
+    return Promise.resolve();
+  }
+  return fetch('/api/members/logout', {
+    method: 'POST',
+    headers: {
+      'Content-Type': 'application/json',
+      'Authorization': `Bearer ${token}`,
+    },
+    body: JSON.stringify({ refreshToken }),
+  }).catch(() => {});
+}
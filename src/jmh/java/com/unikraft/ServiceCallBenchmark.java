@@ -0,0 +1,99 @@
+package com.unikraft;
+
+import com.unikraft.domain.order.OrderService;
+import com.unikraft.domain.order.dto.OrderPageResponse;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import com.unikraft.domain.product.ProductService;
+import com.unikraft.domain.product.dto.ProductCatalogCondition;
+import com.unikraft.domain.product.dto.ProductPageResponse;
+import com.unikraft.domain.product.dto.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 호출 전 구간 벤치마크 (내장 H2)
+ * - 애플리케이션 컨텍스트를 한 번 띄우고, 컨트롤러 없이 서비스 메서드를 직접 호출합니다. (트랜잭션 + JPA + H2 포함)
+ *
+ * - createOrder: 단건 주문 (회원/상품 조회 + 조건부 재고 차감 + 주문 저장)
+ * - findCatalog: 카탈로그 첫 페이지 조회 (20건)
+ * - findProduct: 상품 상세 조회 (상품 캐시)
+ * - findMyOrders: 내 주문 목록 첫 페이지 조회 (20건)
+ *
+ * 실행: ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceCallBenchmark {
+
+    private static final String LOGIN_ID = "testuser";
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private ProductService productService;
+    private Long productId;
+    private ProductCatalogCondition catalogCondition;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(UnikraftApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:jmh",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "unikraft.sql-stats.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        orderService = context.getBean(OrderService.class);
+        productService = context.getBean(ProductService.class);
+
+        // 측정 중에 재고가 떨어지지 않도록 재고가 충분한 상품을 준비합니다.
+        productId = context.getBean(ProductRepository.class)
+                .save(Product.builder().name("벤치마크 상품").price(1000).stockQuantity(Integer.MAX_VALUE).build())
+                .getId();
+        for (int i = 0; i < 20; i++) {
+            orderService.createOrder(LOGIN_ID, productId, 1);
+        }
+        catalogCondition = ProductCatalogCondition.builder().limit(20).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long createOrder() {
+        return orderService.createOrder(LOGIN_ID, productId, 1);
+    }
+
+    @Benchmark
+    public ProductPageResponse findCatalog() {
+        return productService.findCatalog(catalogCondition);
+    }
+
+    @Benchmark
+    public ProductResponse findProduct() {
+        return productService.findProduct(productId);
+    }
+
+    @Benchmark
+    public OrderPageResponse findMyOrders() {
+        return orderService.findMyOrders(LOGIN_ID, null, 20);
+    }
+}
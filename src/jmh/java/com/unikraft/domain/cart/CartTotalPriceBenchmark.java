@@ -0,0 +1,59 @@
+package com.unikraft.domain.cart;
+
+import com.unikraft.domain.cart.dto.CartResponse;
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.product.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장바구니 합계 계산 비용 벤치마크 (상품이 모두 메모리에 로딩된 경우)
+ *
+ * - totalPrice: Cart.getTotalPrice() (아이템마다 상품 가격 × 수량)
+ * - totalItemCount: Cart.getTotalItemCount()
+ * - response: 메모리 장바구니 응답(CartResponse) 생성 (아이템 변환 + 합계)
+ *
+ * 실행: ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CartTotalPriceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int lines;
+
+    private Cart cart;
+
+    @Setup
+    public void setUp() {
+        cart = Cart.create(Member.builder().name("벤치마크").loginId("bench").email("bench@test.com").password("password").build());
+        for (int i = 0; i < lines; i++) {
+            Product product = Product.builder().name("상품 " + i).price(1000 + i).stockQuantity(100).build();
+            cart.addCartItem(CartItem.create(product, 1 + i % 5));
+        }
+    }
+
+    @Benchmark
+    public int totalPrice() {
+        return cart.getTotalPrice();
+    }
+
+    @Benchmark
+    public int totalItemCount() {
+        return cart.getTotalItemCount();
+    }
+
+    @Benchmark
+    public CartResponse response() {
+        return new CartResponse(cart.getCartItems());
+    }
+}
@@ -0,0 +1,58 @@
+package com.unikraft.domain.order;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.order.dto.OrderResponse;
+import com.unikraft.domain.product.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * OrderResponse 변환 비용 벤치마크
+ * - 주문 한 페이지(20건, 주문당 상품 itemsPerOrder개)를 OrderResponse 리스트로 변환합니다. (내 주문 목록 API와 같은 방식)
+ *
+ * 실행: ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderResponseMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "10"})
+    private int itemsPerOrder;
+
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        Member member = Member.builder().name("벤치마크").loginId("bench").email("bench@test.com").password("password").build();
+        orders = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            OrderItem[] orderItems = new OrderItem[itemsPerOrder];
+            for (int j = 0; j < itemsPerOrder; j++) {
+                Product product = Product.builder().name("상품 " + j).price(1000 + j).stockQuantity(100).build();
+                orderItems[j] = OrderItem.createOrderItem(product, product.getPrice(), 1 + j % 3);
+            }
+            orders.add(Order.createOrder(member, orderItems));
+        }
+    }
+
+    @Benchmark
+    public List<OrderResponse> toResponses() {
+        return orders.stream()
+                .map(OrderResponse::new)
+                .collect(Collectors.toList());
+    }
+}
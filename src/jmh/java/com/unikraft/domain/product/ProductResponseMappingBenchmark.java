@@ -0,0 +1,69 @@
+package com.unikraft.domain.product;
+
+import com.unikraft.domain.product.dto.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * ProductResponse 변환 비용 벤치마크
+ *
+ * - toResponses: 상품 목록(products개)을 ProductResponse 리스트로 변환 (전체 상품 목록 API와 같은 방식)
+ * - withStockQuantity: 캐시된 응답에 최신 재고를 입힌 복사본 생성 (상품 캐시의 재고 계층)
+ *
+ * 실행: ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductResponseMappingBenchmark {
+
+    @Param({"20", "1000"})
+    private int products;
+
+    private List<Product> productList;
+    private List<ProductResponse> cachedResponses;
+
+    @Setup
+    public void setUp() {
+        ProductCategory category = new ProductCategory("TEA");
+        productList = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            productList.add(Product.builder()
+                    .name("상품 " + i)
+                    .price(1000 + i)
+                    .description("벤치마크용 상품 설명 " + i)
+                    .imageUrl("/images/" + i + ".png")
+                    .category(category)
+                    .stockQuantity(100)
+                    .build());
+        }
+        cachedResponses = productList.stream().map(ProductResponse::new).toList();
+    }
+
+    @Benchmark
+    public List<ProductResponse> toResponses() {
+        return productList.stream()
+                .map(ProductResponse::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ProductResponse> withStockQuantity() {
+        List<ProductResponse> responses = new ArrayList<>(cachedResponses.size());
+        for (ProductResponse response : cachedResponses) {
+            responses.add(response.withStockQuantity(99));
+        }
+        return responses;
+    }
+}
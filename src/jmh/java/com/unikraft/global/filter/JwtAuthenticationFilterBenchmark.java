@@ -0,0 +1,82 @@
+package com.unikraft.global.filter;
+
+import com.unikraft.global.util.AuthMetrics;
+import com.unikraft.global.util.JwtUtil;
+import com.unikraft.global.util.TokenRevocationStore;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 비용 벤치마크
+ *
+ * - cachedToken: 같은 토큰이 반복해서 들어오는 일반적인 경우 (검증 캐시 적중)
+ * - uncachedToken: 캐시를 끈 경우 (요청마다 파싱 + HMAC 서명 검증 1회)
+ * - noToken: Authorization 헤더가 없는 요청 (필터 자체의 기본 비용)
+ * - 운영과 같이 Prometheus 레지스트리에 검증 시간(unikraft.auth.token.verify)을 기록하는 비용을 포함합니다.
+ *
+ * 실행: ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private MockHttpServletRequest authorizedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        TokenRevocationStore revocationStore = new TokenRevocationStore();
+        JwtUtil cachedJwtUtil = new JwtUtil(revocationStore, 10_000, Duration.ofMinutes(15), Duration.ofDays(14));
+        JwtUtil uncachedJwtUtil = new JwtUtil(revocationStore, 0, Duration.ofMinutes(15), Duration.ofDays(14));
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        cachedFilter = new JwtAuthenticationFilter(cachedJwtUtil, new AuthMetrics(meterRegistry, cachedJwtUtil));
+        uncachedFilter = new JwtAuthenticationFilter(uncachedJwtUtil, new AuthMetrics(meterRegistry, uncachedJwtUtil));
+
+        authorizedRequest = new MockHttpServletRequest("GET", "/api/orders/my");
+        authorizedRequest.addHeader("Authorization", "Bearer " + cachedJwtUtil.createToken("testuser"));
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/products");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void cachedToken(Blackhole blackhole) throws Exception {
+        cachedFilter.doFilterInternal(authorizedRequest, response, NO_OP_CHAIN);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void uncachedToken(Blackhole blackhole) throws Exception {
+        uncachedFilter.doFilterInternal(authorizedRequest, response, NO_OP_CHAIN);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void noToken(Blackhole blackhole) throws Exception {
+        cachedFilter.doFilterInternal(anonymousRequest, response, NO_OP_CHAIN);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
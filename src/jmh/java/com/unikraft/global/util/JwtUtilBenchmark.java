@@ -0,0 +1,55 @@
+package com.unikraft.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 발급/검증 비용 벤치마크
+ *
+ * - createToken: Access Token 발급 (jti 생성 + HMAC 서명)
+ * - verifyCached: 검증 캐시 적중 (SHA-256 다이제스트 + 캐시 조회 + 폐기 확인)
+ * - verifyUncached: 캐시를 끈 경우 (파싱 + HMAC 서명 검증)
+ *
+ * 실행: ./gradlew jmh (결과: build/results/jmh/results.json)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        TokenRevocationStore revocationStore = new TokenRevocationStore();
+        cachedJwtUtil = new JwtUtil(revocationStore, 10_000, Duration.ofMinutes(15), Duration.ofDays(14));
+        uncachedJwtUtil = new JwtUtil(revocationStore, 0, Duration.ofMinutes(15), Duration.ofDays(14));
+        token = cachedJwtUtil.createToken("testuser");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return cachedJwtUtil.createToken("testuser");
+    }
+
+    @Benchmark
+    public Optional<String> verifyCached() {
+        return cachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public Optional<String> verifyUncached() {
+        return uncachedJwtUtil.verify(token);
+    }
+}
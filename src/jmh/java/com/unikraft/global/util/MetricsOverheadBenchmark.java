@@ -0,0 +1,84 @@
+package com.unikraft.global.util;
+
+import com.unikraft.domain.order.OrderMetrics;
+import com.unikraft.domain.product.ProductMetrics;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지표 기록 비용 벤치마크
+ * - 운영과 같은 Prometheus 레지스트리(백분위 히스토그램 포함)에 기록할 때 호출당 비용을 측정합니다.
+ * - 목표: 호출당 1µs 미만 (orderWithSteps는 단건 주문 한 번에 기록하는 5개 Timer 전체,
+ *   트랜잭션 없이 동기화 콜백만 직접 호출하므로 커밋 시점 기록 비용까지 포함)
+ * - contended: 4개 스레드가 같은 Timer에 동시에 기록하는 경우
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MetricsOverheadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsOverheadBenchmark {
+
+    private OrderMetrics orderMetrics;
+    private ProductMetrics productMetrics;
+    private AuthMetrics authMetrics;
+
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        JwtUtil jwtUtil = new JwtUtil(new TokenRevocationStore(), 10_000, Duration.ofMinutes(15), Duration.ofDays(14));
+        orderMetrics = new OrderMetrics(meterRegistry);
+        productMetrics = new ProductMetrics(meterRegistry);
+        authMetrics = new AuthMetrics(meterRegistry, jwtUtil);
+    }
+
+    @Benchmark
+    public long orderWithSteps() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            long start = orderMetrics.startOrder(OrderMetrics.Operation.CREATE);
+            long stepStart = orderMetrics.recordStep(OrderMetrics.Step.MEMBER, start);
+            stepStart = orderMetrics.recordStep(OrderMetrics.Step.PRODUCT, stepStart);
+            stepStart = orderMetrics.recordStep(OrderMetrics.Step.STOCK, stepStart);
+
+            // 커밋 (beforeCommit → afterCommit → afterCompletion)
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+            return stepStart;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Benchmark
+    public String productDetail() {
+        return productMetrics.time(ProductMetrics.Operation.DETAIL, () -> "detail");
+    }
+
+    @Benchmark
+    public void tokenVerification() {
+        authMetrics.recordTokenVerification(true, System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String contended() {
+        return productMetrics.time(ProductMetrics.Operation.DETAIL, () -> "detail");
+    }
+}
@@ -1,10 +1,14 @@
 package com.unikraft.domain.cart;
 
 import com.unikraft.domain.member.Member;
+import com.unikraft.global.util.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,11 +38,14 @@ public class Cart {
      * [Primary Key 설정]
      * @Id: 이 필드가 테이블의 Primary Key임을 나타냅니다.
      * @GeneratedValue: Primary Key 값을 자동으로 생성합니다.
-     * - strategy = GenerationType.IDENTITY: 데이터베이스의 AUTO_INCREMENT를 사용합니다.
-     *   MySQL의 경우 INSERT 시 자동으로 1, 2, 3... 증가하는 ID를 부여합니다.
+     * - generator = "cart_seq": 시퀀스(cart_seq)에서 ID를 미리 받아옵니다. (PooledSequenceGenerator)
+     *   INSERT 전에 ID를 알 수 있으므로 여러 INSERT를 JDBC 배치로 묶어 보낼 수 있습니다.
+     *   MySQL처럼 시퀀스가 없는 DB에서는 테이블로 시퀀스를 흉내 냅니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "cart_seq")
+    @GenericGenerator(name = "cart_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "cart_seq"))
     private Long id;
 
     /**
@@ -167,6 +174,9 @@ public class Cart {
      * }
      * return total;
      *
+     * 주의: cartItems와 각 상품(product)을 모두 읽어야 하므로, 화면용 조회는
+     * CartItemRepository.findAllWithProductByCartId()(fetch join 1번)로 읽은 아이템에서 합계를 계산합니다. (CartResponse)
+     *
      * @return 장바구니에 담긴 모든 상품의 총 금액
      */
     public int getTotalPrice() {
@@ -0,0 +1,97 @@
+package com.unikraft.domain.cart;
+
+import com.unikraft.domain.cart.dto.CartItemRequest;
+import com.unikraft.domain.cart.dto.CartQuantityRequest;
+import com.unikraft.domain.cart.dto.CartResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/cart")
+public class CartController {
+
+    private final CartService cartService;
+
+    /**
+     * 내 장바구니 조회 API
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @return 장바구니 아이템 목록과 합계
+     */
+    @GetMapping
+    public ResponseEntity<CartResponse> getMyCart(@AuthenticationPrincipal String loginId) {
+        return ResponseEntity.ok(cartService.findMyCart(loginId));
+    }
+
+    /**
+     * 장바구니 담기 API
+     * - 같은 상품을 다시 담으면 수량이 더해집니다.
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @param request 담을 상품 ID와 수량
+     * @return 204 No Content
+     */
+    @PostMapping("/items")
+    public ResponseEntity<Void> addItem(@AuthenticationPrincipal String loginId,
+                                        @Valid @RequestBody CartItemRequest request) {
+        cartService.addItem(loginId, request.getProductId(), request.getQuantity());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 장바구니 수량 변경 API
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @param productId 수량을 바꿀 상품 ID
+     * @param request 변경할 수량
+     * @return 204 No Content
+     */
+    @PatchMapping("/items/{productId}")
+    public ResponseEntity<Void> changeQuantity(@AuthenticationPrincipal String loginId,
+                                               @PathVariable Long productId,
+                                               @Valid @RequestBody CartQuantityRequest request) {
+        cartService.changeQuantity(loginId, productId, request.getQuantity());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 장바구니 상품 삭제 API
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @param productId 뺄 상품 ID
+     * @return 204 No Content
+     */
+    @DeleteMapping("/items/{productId}")
+    public ResponseEntity<Void> removeItem(@AuthenticationPrincipal String loginId,
+                                           @PathVariable Long productId) {
+        cartService.removeItem(loginId, productId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 장바구니 비우기 API
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @return 204 No Content
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> clear(@AuthenticationPrincipal String loginId) {
+        cartService.clear(loginId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 장바구니 주문 API
+     * - 장바구니 전체를 하나의 주문으로 만들고 장바구니를 비웁니다.
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @return 생성된 주문의 ID와 함께 201 Created 상태 코드
+     */
+    @PostMapping("/checkout")
+    public ResponseEntity<Void> checkout(@AuthenticationPrincipal String loginId) {
+        Long orderId = cartService.checkout(loginId);
+
+        URI location = URI.create("/api/orders/" + orderId);
+        return ResponseEntity.created(location).build();
+    }
+}
@@ -1,10 +1,14 @@
 package com.unikraft.domain.cart;
 
 import com.unikraft.domain.product.Product;
+import com.unikraft.global.util.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 /**
  * CartItem 엔티티 (장바구니 아이템)
@@ -27,6 +31,10 @@ import lombok.NoArgsConstructor;
  *   └─ CartItem(사과, 5개)  → Product(사과)  ← 같은 상품을 다른 회원이 담을 수 있음
  */
 @Entity
+@Table(uniqueConstraints = {
+        // 한 장바구니에 같은 상품은 한 줄만 (담기 Upsert 시 (cart_id, product_id)로 한 행만 찾는 인덱스 역할도 합니다)
+        @UniqueConstraint(name = "uk_cart_item_cart_product", columnNames = {"cart_id", "product_id"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA용 기본 생성자
 @Getter
 public class CartItem {
@@ -36,7 +44,9 @@ public class CartItem {
      * - 각 CartItem을 고유하게 식별하는 ID
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "cart_item_seq")
+    @GenericGenerator(name = "cart_item_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "cart_item_seq"))
     private Long id;
 
     /**
@@ -0,0 +1,57 @@
+package com.unikraft.domain.cart;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+
+    // 1. 장바구니에서 특정 상품 한 줄만 조회 (담기 Upsert용)
+    //    - 장바구니 전체(cartItems)를 읽지 않고 (cart_id, product_id) 유니크 인덱스로 한 행만 찾습니다.
+    Optional<CartItem> findByCartIdAndProductId(Long cartId, Long productId);
+
+    // 2. 장바구니 아이템 + 상품을 한 번에 조회 (Fetch Join)
+    //    - 화면에 상품명/가격을 보여줄 때 item.getProduct()로 상품마다 추가 쿼리(N+1)가 나가지 않게 합니다.
+    @Query("select ci from CartItem ci join fetch ci.product where ci.cart.id = :cartId order by ci.id")
+    List<CartItem> findAllWithProductByCartId(@Param("cartId") Long cartId);
+
+    // 3. 이미 담긴 상품의 수량 더하기 (UPDATE 한 문장)
+    //    - 읽고 고쳐 쓰지 않으므로, 같은 상품을 동시에 담아도 수량이 사라지지 않습니다.
+    //    - 고친 행 수가 0이면 아직 담기지 않은 상품입니다.
+    @Modifying
+    @Query("update CartItem ci set ci.quantity = ci.quantity + :quantity " +
+            "where ci.cart.id = :cartId and ci.product.id = :productId")
+    int increaseQuantity(@Param("cartId") Long cartId, @Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // 4. 장바구니에서 상품 한 줄 삭제 (DELETE 한 문장)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CartItem ci where ci.cart.id = :cartId and ci.product.id = :productId")
+    int deleteByCartIdAndProductId(@Param("cartId") Long cartId, @Param("productId") Long productId);
+
+    // 5. 장바구니 비우기 (DELETE 한 문장)
+    //    - orphanRemoval(cartItems.clear())은 아이템을 모두 읽은 뒤 한 줄씩 DELETE 하므로 쓰지 않습니다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CartItem ci where ci.cart.id = :cartId")
+    int deleteAllByCartId(@Param("cartId") Long cartId);
+
+    // 6. 회원 장바구니의 (상품 ID, 수량)만 조회 (메모리 장바구니 적재용)
+    @Query("select ci.product.id as productId, ci.quantity as quantity from CartItem ci " +
+            "where ci.cart.member.id = :memberId order by ci.id")
+    List<CartLine> findLinesByMemberId(@Param("memberId") Long memberId);
+
+    // 7. 장바구니에서 여러 상품을 한 번에 삭제 (메모리 장바구니 반영용, DELETE 한 문장)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CartItem ci where ci.cart.id = :cartId and ci.product.id in :productIds")
+    int deleteByCartIdAndProductIdIn(@Param("cartId") Long cartId, @Param("productIds") Collection<Long> productIds);
+
+    // 8. 상품 한 줄의 수량 바꾸기 (메모리 장바구니 반영용, UPDATE 한 문장)
+    @Modifying
+    @Query("update CartItem ci set ci.quantity = :quantity " +
+            "where ci.cart.id = :cartId and ci.product.id = :productId")
+    int updateQuantity(@Param("cartId") Long cartId, @Param("productId") Long productId, @Param("quantity") int quantity);
+}
@@ -0,0 +1,12 @@
+package com.unikraft.domain.cart;
+
+/**
+ * 장바구니 한 줄 조회용 프로젝션 (Interface-based Projection)
+ * - 상품 엔티티 없이 상품 ID와 수량만 SELECT 하여 메모리 장바구니(CartStore)를 채울 때 사용합니다.
+ */
+public interface CartLine {
+
+    Long getProductId();
+
+    int getQuantity();
+}
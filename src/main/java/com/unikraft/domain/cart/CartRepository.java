@@ -0,0 +1,28 @@
+package com.unikraft.domain.cart;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CartRepository extends JpaRepository<Cart, Long> {
+
+    // 1. 회원의 장바구니 조회
+    //    - 토큰에서 추출한 loginId로 회원 조회 없이 바로 장바구니를 찾습니다. (cart_item은 읽지 않음)
+    @Query("select c from Cart c where c.member.loginId = :loginId")
+    Optional<Cart> findByMemberLoginId(@Param("loginId") String loginId);
+
+    // 2. 회원의 장바구니를 잠그며 조회 (SELECT ... FOR UPDATE)
+    //    - 주문(checkout)과 장바구니 쓰기(CartWriter)가 먼저 이 잠금을 잡으므로, 주문하는 동안에는 장바구니 줄이 바뀌지 않습니다.
+    //      (주문이 읽은 줄 = 재고를 차감한 줄 = 지우는 줄)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Cart c where c.member.loginId = :loginId")
+    Optional<Cart> findByMemberLoginIdForUpdate(@Param("loginId") String loginId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Cart c where c.member.id = :memberId")
+    Optional<Cart> findByMemberIdForUpdate(@Param("memberId") Long memberId);
+}
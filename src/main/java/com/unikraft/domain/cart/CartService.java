@@ -0,0 +1,176 @@
+package com.unikraft.domain.cart;
+
+import com.unikraft.domain.cart.dto.CartResponse;
+import com.unikraft.domain.order.CheckoutResult;
+import com.unikraft.domain.order.OrderService;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니 서비스
+ * - 메모리 장바구니(CartStore)가 켜져 있으면 변경은 메모리에만 반영하고, DB 반영은 CartStore가 모아서 처리합니다.
+ * - 꺼져 있으면 요청마다 CartWriter로 DB에 바로 반영합니다.
+ * - 메모리 장바구니만 건드릴 때 DB 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않습니다. (SUPPORTS)
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class CartService {
+
+    // DB 장바구니 담기 시도 횟수 (처음 1번 + 유니크 제약 충돌 후 다시 시도 2번)
+    private static final int ADD_ITEM_ATTEMPTS = 3;
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final ProductRepository productRepository;
+    private final CartWriter cartWriter;
+    private final CartStore cartStore;
+    private final OrderService orderService;
+
+    /**
+     * 장바구니에 상품 담기 (Upsert)
+     * - 같은 상품이 이미 담겨 있으면 수량만 늘리고, 없으면 새 줄을 추가합니다.
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @param productId 담을 상품 ID
+     * @param quantity 담을 수량
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void addItem(String loginId, Long productId, int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("담을 수량은 1개 이상이어야 합니다. quantity=" + quantity);
+        }
+
+        // 상품 확인 (없는 상품이면 담지 않습니다)
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 상품이 없습니다. id=" + productId));
+
+        if (cartStore.isEnabled()) {
+            cartStore.addItem(cartStore.memberIdOf(loginId), productId, quantity);
+            return;
+        }
+
+        // 동시에 들어온 첫 담기끼리 부딪히면(유니크 제약) 새 트랜잭션으로 다시 시도합니다.
+        // - 부딪힌 행(장바구니, 아이템)은 그 사이 다른 요청이 만들었으므로, 다시 시도하면 조회/UPDATE 경로로 갑니다.
+        // - 유니크 제약이 두 개(장바구니, 아이템)라서 최대 두 번 부딪힐 수 있습니다.
+        for (int attempt = 1; ; attempt++) {
+            try {
+                cartWriter.addItem(loginId, product, quantity);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= ADD_ITEM_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 장바구니 상품 수량 변경
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @param productId 수량을 바꿀 상품 ID
+     * @param quantity 변경할 수량
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void changeQuantity(String loginId, Long productId, int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다. quantity=" + quantity);
+        }
+
+        if (cartStore.isEnabled()) {
+            cartStore.changeQuantity(cartStore.memberIdOf(loginId), productId, quantity);
+            return;
+        }
+        cartWriter.changeQuantity(loginId, productId, quantity);
+    }
+
+    /**
+     * 장바구니에서 상품 빼기
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @param productId 뺄 상품 ID
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void removeItem(String loginId, Long productId) {
+        if (cartStore.isEnabled()) {
+            cartStore.removeItem(cartStore.memberIdOf(loginId), productId);
+            return;
+        }
+        cartWriter.removeItem(loginId, productId);
+    }
+
+    /**
+     * 장바구니 비우기
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void clear(String loginId) {
+        if (cartStore.isEnabled()) {
+            cartStore.clear(cartStore.memberIdOf(loginId));
+            return;
+        }
+        cartWriter.clear(loginId);
+    }
+
+    /**
+     * 장바구니 주문 (Checkout)
+     * - 메모리 장바구니를 쓰는 경우, 주문 트랜잭션을 시작하기 전에 아직 반영되지 않은 변경을 먼저 DB에 반영합니다.
+     * - 주문이 커밋된 뒤 메모리 장바구니에서 주문이 실제로 읽은 줄만큼만 뺍니다. (반영 이후 새로 담은 상품은 남김)
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @return 생성된 주문의 ID
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Long checkout(String loginId) {
+        if (!cartStore.isEnabled()) {
+            return orderService.checkout(loginId).orderId();
+        }
+
+        Long memberId = cartStore.memberIdOf(loginId);
+        cartStore.flush(memberId);
+        CheckoutResult result = orderService.checkout(loginId);
+        cartStore.removeCheckedOut(memberId, result.orderedQuantities());
+        return result.orderId();
+    }
+
+    /**
+     * 내 장바구니 조회
+     * - DB: 장바구니 1번, 아이템은 상품과 함께 fetch join으로 1번 조회하고, 합계는 읽은 아이템에서 계산합니다.
+     * - 메모리 장바구니: 상품만 한 번에 조회하고 합계는 메모리에서 계산합니다.
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @return 장바구니 아이템 목록과 합계
+     */
+    public CartResponse findMyCart(String loginId) {
+        if (cartStore.isEnabled()) {
+            return findMyCartInMemory(loginId);
+        }
+
+        return cartRepository.findByMemberLoginId(loginId)
+                .map(cart -> new CartResponse(cartItemRepository.findAllWithProductByCartId(cart.getId())))
+                .orElseGet(CartResponse::empty);
+    }
+
+    private CartResponse findMyCartInMemory(String loginId) {
+        Map<Long, Integer> items = cartStore.getItems(cartStore.memberIdOf(loginId));
+        if (items.isEmpty()) {
+            return CartResponse.empty();
+        }
+
+        Map<Long, Product> products = productRepository.findAllById(items.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 저장하지 않는 임시 CartItem으로 응답을 만듭니다. (삭제된 상품은 건너뜀)
+        List<CartItem> cartItems = items.entrySet().stream()
+                .filter(entry -> products.containsKey(entry.getKey()))
+                .map(entry -> CartItem.create(products.get(entry.getKey()), entry.getValue()))
+                .toList();
+        return new CartResponse(cartItems);
+    }
+}
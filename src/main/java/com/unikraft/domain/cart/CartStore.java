@@ -0,0 +1,354 @@
+package com.unikraft.domain.cart;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.global.error.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * CartStore (메모리 장바구니, Write-Behind)
+ *
+ * [도입 배경]
+ * - 장바구니 수량 변경은 가장 자주 일어나는 쓰기지만, 잠깐 유실되어도 큰 문제가 없는 값입니다.
+ * - 클릭할 때마다 JPA로 UPDATE 하면 DB 쓰기 부하의 대부분을 장바구니가 차지하게 됩니다.
+ *
+ * [동작 방식]
+ * - 회원 ID별로 장바구니(상품 ID → 수량)를 메모리에 두고, 변경은 메모리에만 반영합니다.
+ * - 변경된 장바구니는 주기적으로 DB에 반영합니다. (같은 장바구니의 여러 변경은 마지막 상태 하나로 합쳐짐)
+ *   장바구니마다 트랜잭션을 따로 쓰고, DB와 달라진 줄만 씁니다. (CartWriter.saveCart)
+ * - 반영이 max-failures번 연속 실패한 장바구니는 격리합니다. 주기 반영에서 빼고 메모리에만 두며,
+ *   회원이 장바구니를 다시 바꾸거나 주문할 때 다시 반영을 시도합니다. (실패한 장바구니 하나가 매 주기 오류를 쌓지 않도록)
+ * - 메모리에 둔 장바구니가 max-carts를 넘으면, 가장 오래 쓰지 않은 장바구니부터 DB에 반영된 것을 확인하고 내립니다. (LRU)
+ * - 정상 종료(graceful shutdown) 시 남은 변경을 모두 반영합니다.
+ *
+ * [설정]
+ * - unikraft.cart.write-behind.enabled: true일 때만 사용됩니다. (기본값 false)
+ * - unikraft.cart.write-behind.flush-interval-ms: DB 반영 주기 (기본값 1000ms)
+ * - unikraft.cart.write-behind.max-carts: 메모리에 둘 장바구니 수 (기본값 10000)
+ * - unikraft.cart.write-behind.max-failures: 격리하기 전까지 연속 실패 허용 횟수 (기본값 3)
+ */
+@Slf4j
+@Component
+public class CartStore {
+
+    private final CartWriter cartWriter;
+    private final MemberRepository memberRepository;
+    private final boolean enabled;
+    private final int maxCarts;
+    private final int maxFailures;
+    private final Map<Long, MemberCart> carts = new ConcurrentHashMap<>();
+    private final Cache<String, Long> memberIds;
+
+    // DB 반영은 한 번에 하나씩 (오래된 상태가 새 상태를 덮어쓰지 않도록)
+    private final Object flushLock = new Object();
+
+    public CartStore(CartWriter cartWriter,
+                     MemberRepository memberRepository,
+                     @Value("${unikraft.cart.write-behind.enabled:false}") boolean enabled,
+                     @Value("${unikraft.cart.write-behind.max-carts:10000}") int maxCarts,
+                     @Value("${unikraft.cart.write-behind.max-failures:3}") int maxFailures) {
+        this.cartWriter = cartWriter;
+        this.memberRepository = memberRepository;
+        this.enabled = enabled;
+        this.maxCarts = maxCarts;
+        this.maxFailures = maxFailures;
+        this.memberIds = Caffeine.newBuilder()
+                .maximumSize(maxCarts)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 회원 ID 조회 (loginId → 회원 ID, 클릭마다 회원을 조회하지 않도록 캐시)
+     */
+    public Long memberIdOf(String loginId) {
+        return memberIds.get(loginId, id -> memberRepository.findByLoginId(id)
+                .map(Member::getId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 회원이 없습니다. id=" + id)));
+    }
+
+    public void addItem(Long memberId, Long productId, int quantity) {
+        mutate(memberId, items -> items.merge(productId, quantity, Integer::sum));
+    }
+
+    public void changeQuantity(Long memberId, Long productId, int quantity) {
+        mutate(memberId, items -> {
+            if (items.replace(productId, quantity) == null) {
+                throw new IllegalArgumentException("장바구니에 없는 상품입니다. id=" + productId);
+            }
+        });
+    }
+
+    public void removeItem(Long memberId, Long productId) {
+        mutate(memberId, items -> {
+            if (items.remove(productId) == null) {
+                throw new IllegalArgumentException("장바구니에 없는 상품입니다. id=" + productId);
+            }
+        });
+    }
+
+    public void clear(Long memberId) {
+        mutate(memberId, Map::clear);
+    }
+
+    /**
+     * 현재 장바구니 상태 (복사본)
+     * @param memberId 회원 ID
+     * @return 상품 ID → 수량 (담은 순서)
+     */
+    public Map<Long, Integer> getItems(Long memberId) {
+        while (true) {
+            MemberCart cart = cartOf(memberId);
+            synchronized (cart) {
+                if (cart.evicted) {
+                    continue;
+                }
+                cart.lastAccessNanos = System.nanoTime();
+                return new LinkedHashMap<>(cart.items);
+            }
+        }
+    }
+
+    /**
+     * 변경된 장바구니를 DB에 반영 (Flush)
+     * - 장바구니마다 변경 번호(version)를 두고, 반영한 번호까지만 "깨끗함"으로 표시합니다.
+     *   반영하는 동안 들어온 변경은 다음 주기에 반영됩니다.
+     * - 실패한 장바구니는 깨끗함으로 표시하지 않으므로 다음 주기에 재시도하고, 연속으로 실패하면 격리합니다.
+     * - 반영 후 장바구니 수가 max-carts를 넘으면 오래 쓰지 않은 것부터 내립니다. (깨끗한 장바구니만)
+     */
+    @Scheduled(fixedDelayString = "${unikraft.cart.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (flushLock) {
+            for (Long memberId : new ArrayList<>(carts.keySet())) {
+                MemberCart cart = carts.get(memberId);
+                if (cart != null) {
+                    write(memberId, cart, false);
+                }
+            }
+            evictIdle();
+        }
+    }
+
+    /**
+     * 한 회원의 장바구니만 즉시 반영 (주문 등 DB의 장바구니를 읽기 전에 호출)
+     * - 격리된 장바구니도 다시 시도합니다.
+     * @param memberId 회원 ID
+     */
+    public void flush(Long memberId) {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (flushLock) {
+            MemberCart cart = carts.get(memberId);
+            // 메모리에 없으면 DB가 최신 상태입니다.
+            if (cart != null && !write(memberId, cart, true)) {
+                throw new ServiceUnavailableException("장바구니를 저장하지 못했습니다. 잠시 후 다시 시도해주세요.", 1);
+            }
+        }
+    }
+
+    /**
+     * 주문한 상품만 메모리 장바구니에서 빼기 (주문 커밋 후 호출)
+     * - 주문이 실제로 DB에서 읽어 주문한 줄(OrderService.checkout의 CheckoutResult)만큼만 뺍니다.
+     *   flush(memberId) 이후 새로 담았거나, 그 사이 DB에서 다시 읽어 올린 장바구니라도 주문하지 않은 상품은 남습니다.
+     * - 주문이 DB 장바구니를 비웠으므로 남은 상태를 다음 주기에 다시 씁니다. (변경으로 표시, DB와 같으면 쓰지 않음)
+     * @param memberId 회원 ID
+     * @param orderedQuantities 주문한 상품 ID → 수량
+     */
+    public void removeCheckedOut(Long memberId, Map<Long, Integer> orderedQuantities) {
+        mutate(memberId, items -> orderedQuantities.forEach((productId, quantity) ->
+                items.computeIfPresent(productId, (id, current) -> current > quantity ? current - quantity : null)));
+    }
+
+    /**
+     * 종료 시 남은 변경 반영
+     * - 정상 종료(graceful shutdown) 시 메모리에만 있던 장바구니가 유실되지 않도록 격리된 장바구니까지 모두 반영합니다.
+     * - 그래도 실패한 장바구니는 내용과 함께 오류 로그로 남깁니다. (메모리에만 있던 유일한 사본이므로)
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (flushLock) {
+            carts.forEach((memberId, cart) -> {
+                if (!write(memberId, cart, true)) {
+                    synchronized (cart) {
+                        log.error("종료 전에 장바구니를 DB에 반영하지 못해 유실됩니다. memberId={}, items={}", memberId, cart.items);
+                    }
+                }
+            });
+        }
+    }
+
+    // 메모리에 있는 장바구니 수 (테스트용)
+    int size() {
+        return carts.size();
+    }
+
+    private void mutate(Long memberId, Consumer<Map<Long, Integer>> change) {
+        while (true) {
+            MemberCart cart = cartOf(memberId);
+            synchronized (cart) {
+                // 내리는 중인 장바구니면 DB에서 다시 읽어 새로 올립니다.
+                if (cart.evicted) {
+                    continue;
+                }
+                change.accept(cart.items);
+                cart.version++;
+                cart.lastAccessNanos = System.nanoTime();
+                // 새 상태로 바뀌었으므로 격리를 풀고 다시 반영을 시도합니다.
+                cart.failures = 0;
+                cart.quarantined = false;
+                return;
+            }
+        }
+    }
+
+    // 메모리에 없는 장바구니는 처음 접근할 때 DB에서 읽어옵니다.
+    // - computeIfAbsent 안에서 DB를 조회하면 조회하는 동안 같은 해시 구간의 다른 회원까지 막히므로,
+    //   먼저 읽고 putIfAbsent로 올립니다. (동시에 읽었다면 먼저 올린 쪽을 씁니다)
+    private MemberCart cartOf(Long memberId) {
+        MemberCart cart = carts.get(memberId);
+        if (cart != null) {
+            return cart;
+        }
+        MemberCart loaded = new MemberCart(cartWriter.loadItems(memberId));
+        MemberCart existing = carts.putIfAbsent(memberId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 장바구니 하나를 반영합니다. (flushLock 안에서만 호출)
+     * @param includeQuarantined 격리된 장바구니도 반영할지 여부
+     * @return 반영되었거나 이미 깨끗하면 true, 실패하거나 격리되어 건너뛰면 false
+     */
+    private boolean write(Long memberId, MemberCart cart, boolean includeQuarantined) {
+        Map<Long, Integer> snapshot;
+        long version;
+        synchronized (cart) {
+            if (!cart.isDirty()) {
+                return true;
+            }
+            if (cart.quarantined && !includeQuarantined) {
+                return false;
+            }
+            snapshot = new LinkedHashMap<>(cart.items);
+            version = cart.version;
+        }
+
+        try {
+            cartWriter.saveCart(memberId, snapshot);
+        } catch (RuntimeException e) {
+            synchronized (cart) {
+                cart.failures++;
+                if (cart.failures >= maxFailures && !cart.quarantined) {
+                    cart.quarantined = true;
+                    log.error("장바구니 DB 반영이 {}번 연속 실패하여 격리합니다. memberId={}, items={}",
+                            cart.failures, memberId, snapshot, e);
+                } else {
+                    log.warn("장바구니 DB 반영 실패, 다음 주기에 재시도합니다. memberId={}, failures={}",
+                            memberId, cart.failures, e);
+                }
+            }
+            return false;
+        }
+
+        synchronized (cart) {
+            cart.flushedVersion = Math.max(cart.flushedVersion, version);
+            cart.failures = 0;
+            cart.quarantined = false;
+        }
+        return true;
+    }
+
+    // 격리된 장바구니 수 (테스트용)
+    int quarantinedCount() {
+        return (int) carts.values().stream().filter(cart -> {
+            synchronized (cart) {
+                return cart.quarantined;
+            }
+        }).count();
+    }
+
+    // 장바구니 수가 max-carts를 넘으면, DB에 반영이 끝난 장바구니를 오래 쓰지 않은 순서로 내립니다.
+    private void evictIdle() {
+        int excess = carts.size() - maxCarts;
+        if (excess <= 0) {
+            return;
+        }
+
+        // 정렬 중에 접근 시각이 바뀌지 않도록 먼저 찍어 둡니다.
+        List<long[]> candidates = new ArrayList<>(carts.size());
+        carts.forEach((memberId, cart) -> candidates.add(new long[]{cart.lastAccessNanos, memberId}));
+        candidates.sort(Comparator.comparingLong(candidate -> candidate[0]));
+
+        int evicted = 0;
+        for (long[] candidate : candidates) {
+            if (evicted == excess) {
+                break;
+            }
+            Long memberId = candidate[1];
+            MemberCart cart = carts.get(memberId);
+            if (cart == null) {
+                continue;
+            }
+            synchronized (cart) {
+                // 반영 이후에 바뀐 장바구니는 이번에는 건너뛰고 다음 주기에 반영한 뒤 내립니다.
+                if (cart.isDirty()) {
+                    continue;
+                }
+                cart.evicted = true;
+                carts.remove(memberId, cart);
+                evicted++;
+            }
+        }
+        log.debug("메모리 장바구니 정리. evicted={}, remaining={}", evicted, carts.size());
+    }
+
+    /**
+     * 회원 한 명의 메모리 장바구니
+     * - items, version 등 모든 필드는 이 객체의 잠금(synchronized) 안에서만 읽고 씁니다.
+     */
+    private static final class MemberCart {
+
+        private final Map<Long, Integer> items;
+        private long version;
+        private long flushedVersion;
+        private volatile long lastAccessNanos = System.nanoTime();
+        private boolean evicted;
+        private int failures;
+        private boolean quarantined;
+
+        private MemberCart(Map<Long, Integer> items) {
+            this.items = items;
+        }
+
+        private boolean isDirty() {
+            return version != flushedVersion;
+        }
+    }
+}
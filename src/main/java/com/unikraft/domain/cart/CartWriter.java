@@ -0,0 +1,136 @@
+package com.unikraft.domain.cart;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CartWriter (장바구니 DB 쓰기)
+ * - 장바구니 변경을 cart / cart_item 테이블에 바로 반영합니다.
+ * - 메모리 장바구니(CartStore)가 꺼져 있으면 CartService가 요청마다 호출하고,
+ *   켜져 있으면 CartStore가 모아 둔 변경을 주기적으로 saveCart()로 장바구니마다 반영합니다.
+ * - 모든 쓰기는 장바구니 행을 먼저 잠급니다. (주문과 동시에 줄이 바뀌지 않도록, CartRepository.findByMemberLoginIdForUpdate)
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class CartWriter {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final MemberRepository memberRepository;
+    private final ProductRepository productRepository;
+
+    /**
+     * 장바구니에 상품 담기 (Upsert)
+     * - 같은 상품이 이미 담겨 있으면 UPDATE 한 문장으로 수량만 늘리고, 없으면 새 줄을 추가합니다.
+     * - 장바구니 전체를 읽지 않습니다.
+     * - 같은 회원의 첫 담기가 동시에 들어오면 장바구니(member_id) 또는 아이템((cart_id, product_id))의 INSERT가
+     *   유니크 제약에 걸려 DataIntegrityViolationException이 납니다. 호출한 쪽(CartService)이 새 트랜잭션으로 다시 시도합니다.
+     */
+    public void addItem(String loginId, Product product, int quantity) {
+        Cart cart = getOrCreateCart(loginId);
+
+        if (cartItemRepository.increaseQuantity(cart.getId(), product.getId(), quantity) > 0) {
+            return;
+        }
+
+        // cart.addCartItem()은 cartItems 컬렉션을 건드리므로 쓰지 않고, 연관관계만 설정해 바로 저장합니다.
+        CartItem cartItem = CartItem.create(product, quantity);
+        cartItem.assignCart(cart);
+        cartItemRepository.save(cartItem);
+    }
+
+    public void changeQuantity(String loginId, Long productId, int quantity) {
+        CartItem cartItem = cartRepository.findByMemberLoginIdForUpdate(loginId)
+                .flatMap(cart -> cartItemRepository.findByCartIdAndProductId(cart.getId(), productId))
+                .orElseThrow(() -> new IllegalArgumentException("장바구니에 없는 상품입니다. id=" + productId));
+        cartItem.changeQuantity(quantity);
+    }
+
+    public void removeItem(String loginId, Long productId) {
+        Cart cart = cartRepository.findByMemberLoginIdForUpdate(loginId)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니에 없는 상품입니다. id=" + productId));
+
+        if (cartItemRepository.deleteByCartIdAndProductId(cart.getId(), productId) == 0) {
+            throw new IllegalArgumentException("장바구니에 없는 상품입니다. id=" + productId);
+        }
+    }
+
+    public void clear(String loginId) {
+        cartRepository.findByMemberLoginIdForUpdate(loginId)
+                .ifPresent(cart -> cartItemRepository.deleteAllByCartId(cart.getId()));
+    }
+
+    /**
+     * 메모리 장바구니 적재용 조회
+     * - 읽기 전용 트랜잭션으로 읽으면 복제본 라우팅 시 복제본에서 읽습니다. 방금 반영하고 내린 장바구니를
+     *   복제 지연된 복제본에서 다시 올리면, 다음 saveCart()가 원본과 비교하면서 빠진 줄을 지워 버립니다.
+     *   그래서 읽기 전용으로 표시하지 않고 원본에서 읽습니다. (SUPPORTS: 쓰기 트랜잭션을 새로 열지는 않음)
+     * @param memberId 회원 ID
+     * @return 상품 ID → 수량 (담은 순서)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<Long, Integer> loadItems(Long memberId) {
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        for (CartLine line : cartItemRepository.findLinesByMemberId(memberId)) {
+            items.put(line.getProductId(), line.getQuantity());
+        }
+        return items;
+    }
+
+    /**
+     * 메모리 장바구니 한 개 반영 (Write-Behind Flush)
+     * - 장바구니마다 트랜잭션을 따로 씁니다. 한 장바구니가 실패해도 다른 장바구니의 반영은 롤백되지 않습니다.
+     * - DB에 있는 줄(상품 ID, 수량)을 읽어 현재 상태와 비교하고, 바뀐 줄만 씁니다.
+     *   빠진 상품은 DELETE 한 문장, 수량이 바뀐 상품은 줄마다 UPDATE, 새 상품은 JDBC 배치 INSERT
+     * - 주문처럼 메모리 밖에서 DB 장바구니를 바꿔도, DB를 기준으로 비교하므로 결과는 현재 상태와 같아집니다.
+     * @param memberId 회원 ID
+     * @param items 현재 장바구니 상태 (상품 ID → 수량)
+     */
+    public void saveCart(Long memberId, Map<Long, Integer> items) {
+        Cart cart = cartRepository.findByMemberIdForUpdate(memberId)
+                .orElseGet(() -> cartRepository.save(Cart.create(memberRepository.getReferenceById(memberId))));
+
+        Map<Long, Integer> stored = loadItems(memberId);
+
+        List<Long> removed = stored.keySet().stream()
+                .filter(productId -> !items.containsKey(productId))
+                .toList();
+        if (!removed.isEmpty()) {
+            cartItemRepository.deleteByCartIdAndProductIdIn(cart.getId(), removed);
+        }
+
+        List<CartItem> added = new ArrayList<>();
+        items.forEach((productId, quantity) -> {
+            Integer storedQuantity = stored.get(productId);
+            if (storedQuantity == null) {
+                CartItem cartItem = CartItem.create(productRepository.getReferenceById(productId), quantity);
+                cartItem.assignCart(cart);
+                added.add(cartItem);
+            } else if (storedQuantity.intValue() != quantity) {
+                cartItemRepository.updateQuantity(cart.getId(), productId, quantity);
+            }
+        });
+        cartItemRepository.saveAll(added);
+    }
+
+    private Cart getOrCreateCart(String loginId) {
+        return cartRepository.findByMemberLoginIdForUpdate(loginId)
+                .orElseGet(() -> {
+                    Member member = memberRepository.findByLoginId(loginId)
+                            .orElseThrow(() -> new IllegalArgumentException("해당 회원이 없습니다. id=" + loginId));
+                    return cartRepository.save(Cart.create(member));
+                });
+    }
+}
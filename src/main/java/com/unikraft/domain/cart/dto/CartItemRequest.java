@@ -0,0 +1,17 @@
+package com.unikraft.domain.cart.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CartItemRequest {
+
+    @NotNull(message = "상품 ID는 필수 입력 값입니다.")
+    private Long productId;
+
+    @Min(value = 1, message = "담을 수량은 1개 이상이어야 합니다.")
+    private int quantity;
+}
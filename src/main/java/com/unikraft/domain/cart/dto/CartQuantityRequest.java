@@ -0,0 +1,13 @@
+package com.unikraft.domain.cart.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CartQuantityRequest {
+
+    @Min(value = 1, message = "수량은 1개 이상이어야 합니다.")
+    private int quantity;
+}
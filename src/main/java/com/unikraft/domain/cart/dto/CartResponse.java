@@ -0,0 +1,55 @@
+package com.unikraft.domain.cart.dto;
+
+import com.unikraft.domain.cart.CartItem;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor
+public class CartResponse {
+
+    // 1. 장바구니에 담긴 상품 목록
+    private List<CartItemResponse> cartItems;
+
+    // 2. 합계
+    private long totalQuantity;
+    private long totalPrice;
+
+    // 합계는 이미 읽은 아이템에서 계산합니다. (상품이 모두 로딩된 CartItem이어야 합니다, 추가 쿼리 없음)
+    public CartResponse(List<CartItem> cartItems) {
+        this.cartItems = cartItems.stream()
+                .map(CartItemResponse::new)
+                .collect(Collectors.toList());
+        this.totalQuantity = cartItems.stream().mapToLong(CartItem::getQuantity).sum();
+        this.totalPrice = cartItems.stream().mapToLong(item -> (long) item.getProduct().getPrice() * item.getQuantity()).sum();
+    }
+
+    // 빈 장바구니 (장바구니가 아직 없는 회원)
+    public static CartResponse empty() {
+        CartResponse response = new CartResponse();
+        response.cartItems = List.of();
+        return response;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class CartItemResponse {
+        private Long productId;
+        private String productName;
+        private int price;
+        private int quantity;
+        private boolean stockAvailable;
+
+        // 상품은 fetch join으로 함께 조회된 상태여야 합니다. (CartItemRepository.findAllWithProductByCartId)
+        public CartItemResponse(CartItem cartItem) {
+            this.productId = cartItem.getProduct().getId();
+            this.productName = cartItem.getProduct().getName();
+            this.price = cartItem.getProduct().getPrice();
+            this.quantity = cartItem.getQuantity();
+            this.stockAvailable = cartItem.isStockAvailable();
+        }
+    }
+}
@@ -9,6 +9,8 @@
  * - CartRepository: 장바구니 데이터 접근 인터페이스
  * - CartItemRepository: 장바구니 아이템 데이터 접근 인터페이스
  * - CartService: 장바구니 비즈니스 로직
+ * - CartWriter: 장바구니 DB 쓰기 (요청마다 바로 반영, 또는 CartStore의 일괄 반영)
+ * - CartStore: 메모리 장바구니 (변경을 모아 주기적으로 DB에 반영, Write-Behind)
  * - CartController: 장바구니 REST API
  * - dto: 데이터 전송 객체 (요청/응답 DTO)
  */
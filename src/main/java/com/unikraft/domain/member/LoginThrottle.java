@@ -0,0 +1,140 @@
+package com.unikraft.domain.member;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.unikraft.global.error.TooManyRequestsException;
+import com.unikraft.global.util.SlidingWindowRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * LoginThrottle (로그인 시도 제한)
+ *
+ * [도입 배경]
+ * - 비밀번호 비교(BCrypt)는 일부러 느리게 만든 연산이라, 크리덴셜 스터핑(유출된 아이디/비밀번호 대입) 공격이
+ *   들어오면 해싱만으로 CPU가 포화됩니다.
+ *
+ * [동작 방식]
+ * - IP별: 윈도우 안의 모든 로그인 시도 횟수를 제한합니다. (한 곳에서 여러 아이디를 대입하는 공격)
+ * - (아이디, IP)별: 윈도우 안의 실패 횟수를 제한합니다. (한 곳에서 한 아이디를 대입하는 공격)
+ *   아이디만으로 잠그면 아이디를 아는 누구나 틀린 비밀번호 몇 번으로 그 회원을 잠글 수 있으므로, IP와 묶어서 셉니다.
+ * - 아이디별: 여러 곳에서 한 아이디를 대입하는 공격에 대비해 더 큰 한도(account-failure-limit)를 둡니다.
+ *   이 한도는 그 아이디로 로그인에 성공한 적이 있는 IP(trusted-ttl 동안 기억)에는 적용하지 않으므로,
+ *   공격으로 아이디가 잠겨도 평소 쓰던 곳에서는 로그인할 수 있습니다.
+ * - 시도를 먼저 "실패"로 기록해 두고 성공하면 지우므로, 동시에 몰려와도 해싱 횟수가 한도를 넘지 않습니다.
+ * - 한도를 넘은 요청은 DB 조회와 해싱 "이전에" 429로 거절하므로, 공격 트래픽이 CPU를 쓰지 않습니다.
+ * - 로그인에 성공하면 해당 아이디의 실패 기록을 지웁니다.
+ *
+ * [설정]
+ * - unikraft.security.login.ip-limit / ip-window: IP별 시도 한도 (기본 1분에 30회)
+ * - unikraft.security.login.failure-limit / failure-window: (아이디, IP)별 실패 한도 (기본 5분에 5회)
+ * - unikraft.security.login.account-failure-limit: 아이디별 실패 한도 (기본 5분에 20회, 윈도우는 failure-window)
+ * - unikraft.security.login.trusted-ttl: 로그인에 성공한 (아이디, IP)를 기억하는 시간 (기본 30일)
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private final SlidingWindowRateLimiter ipAttempts;
+    private final SlidingWindowRateLimiter clientFailures;
+    private final SlidingWindowRateLimiter accountFailures;
+    private final Cache<String, Boolean> trustedClients;
+
+    public LoginThrottle(@Value("${unikraft.security.login.ip-limit:30}") int ipLimit,
+                         @Value("${unikraft.security.login.ip-window:1m}") Duration ipWindow,
+                         @Value("${unikraft.security.login.failure-limit:5}") int failureLimit,
+                         @Value("${unikraft.security.login.failure-window:5m}") Duration failureWindow,
+                         @Value("${unikraft.security.login.account-failure-limit:20}") int accountFailureLimit,
+                         @Value("${unikraft.security.login.trusted-ttl:30d}") Duration trustedTtl,
+                         @Value("${unikraft.security.login.stripes:64}") int stripes,
+                         @Value("${unikraft.security.login.max-keys-per-stripe:4096}") int maxKeysPerStripe) {
+        this.ipAttempts = new SlidingWindowRateLimiter(ipLimit, ipWindow, stripes, maxKeysPerStripe);
+        this.clientFailures = new SlidingWindowRateLimiter(failureLimit, failureWindow, stripes, maxKeysPerStripe);
+        this.accountFailures = new SlidingWindowRateLimiter(accountFailureLimit, failureWindow, stripes, maxKeysPerStripe);
+        this.trustedClients = Caffeine.newBuilder()
+                .maximumSize((long) stripes * maxKeysPerStripe)
+                .expireAfterWrite(trustedTtl)
+                .build();
+    }
+
+    /**
+     * 로그인 시도 허용 여부 확인
+     * - 허용되면 IP의 시도 횟수와 아이디의 실패 횟수를 하나씩 늘립니다. (성공하면 recordSuccess로 지움)
+     * @param loginId 로그인 아이디
+     * @param clientIp 요청 IP (알 수 없으면 null)
+     * @throws TooManyRequestsException 한도를 넘은 경우
+     */
+    public void checkAllowed(String loginId, String clientIp) {
+        String client = clientKey(loginId, clientIp);
+        boolean trusted = client != null && trustedClients.getIfPresent(client) != null;
+
+        // 1. (아이디, IP)별 실패 한도, 처음 보는 곳이면 아이디별 실패 한도
+        if (client != null && clientFailures.isLimited(client)) {
+            log.warn("로그인 실패 한도 초과. loginId={}, ip={}", loginId, clientIp);
+            throw tooManyRequests(clientFailures.retryAfterSeconds(client));
+        }
+        if (loginId != null && !trusted && accountFailures.isLimited(loginId)) {
+            log.warn("아이디별 로그인 실패 한도 초과. loginId={}, ip={}", loginId, clientIp);
+            throw tooManyRequests(accountFailures.retryAfterSeconds(loginId));
+        }
+
+        // 2. IP별 시도 한도 (허용되면 시도 1회 기록)
+        if (clientIp != null && !ipAttempts.tryAcquire(clientIp)) {
+            log.warn("IP별 로그인 시도 한도 초과. ip={}", clientIp);
+            throw tooManyRequests(ipAttempts.retryAfterSeconds(clientIp));
+        }
+
+        // 3. 실패 1회를 미리 기록 (동시에 들어온 시도끼리 한도를 나눠 갖도록 tryAcquire 사용)
+        if (client != null && !clientFailures.tryAcquire(client)) {
+            throw tooManyRequests(clientFailures.retryAfterSeconds(client));
+        }
+        if (loginId != null && !trusted && !accountFailures.tryAcquire(loginId)) {
+            throw tooManyRequests(accountFailures.retryAfterSeconds(loginId));
+        }
+    }
+
+    /**
+     * 로그인 성공 기록
+     * - 실패 기록을 지우고, 이 (아이디, IP)를 믿을 수 있는 곳으로 기억합니다.
+     */
+    public void recordSuccess(String loginId, String clientIp) {
+        String client = clientKey(loginId, clientIp);
+        if (client != null) {
+            clientFailures.reset(client);
+            trustedClients.put(client, Boolean.TRUE);
+        }
+        accountFailures.reset(loginId);
+    }
+
+    /**
+     * 시도 취소 기록
+     * - 해싱 대기열이 가득 차 비밀번호를 비교하지도 못하고 503으로 거절된 시도는 한도에서 빼 줍니다.
+     *   (서버가 바쁠 때 다시 시도한 회원이 429로 잠기지 않도록)
+     */
+    public void recordRejected(String loginId, String clientIp) {
+        String client = clientKey(loginId, clientIp);
+        if (clientIp != null) {
+            ipAttempts.release(clientIp);
+        }
+        if (client != null) {
+            clientFailures.release(client);
+            if (trustedClients.getIfPresent(client) == null) {
+                accountFailures.release(loginId);
+            }
+        }
+    }
+
+    private static String clientKey(String loginId, String clientIp) {
+        if (loginId == null) {
+            return null;
+        }
+        return clientIp != null ? loginId + "@" + clientIp : loginId;
+    }
+
+    private static TooManyRequestsException tooManyRequests(long retryAfterSeconds) {
+        return new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+}
@@ -1,11 +1,15 @@
 package com.unikraft.domain.member;
 
 import com.unikraft.domain.cart.Cart;
+import com.unikraft.global.util.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 /**
  * Member 엔티티 (회원)
@@ -20,7 +24,9 @@ import lombok.NoArgsConstructor;
 public class Member {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "member_seq")
+    @GenericGenerator(name = "member_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "member_seq"))
     private Long id;
     private String name;
     private int age;
@@ -82,4 +88,18 @@ public class Member {
     public void assignCart(Cart cart) {
         this.cart = cart;
     }
-}
\ No newline at end of file
+
+    /**
+     * [비즈니스 메서드: 비밀번호 변경]
+     *
+     * 암호화된 비밀번호로 교체합니다.
+     *
+     * 사용 시점:
+     * - BCrypt 강도(cost)를 올린 뒤, 로그인에 성공한 회원의 비밀번호를 새 강도로 다시 암호화할 때
+     *
+     * @param encodedPassword 암호화된 비밀번호
+     */
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+}
@@ -2,6 +2,9 @@ package com.unikraft.domain.member;
 
 import com.unikraft.domain.member.dto.LoginRequest;
 import com.unikraft.domain.member.dto.SignUpRequest;
+import com.unikraft.domain.member.dto.TokenRefreshRequest;
+import com.unikraft.domain.member.dto.TokenResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +12,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,10 +21,43 @@ public class MemberController {
 
     private final MemberService memberService;
 
+    /**
+     * 로그인 API
+     * - CompletableFuture를 반환하므로, 비밀번호 비교(BCrypt)가 끝날 때까지 요청 스레드를 붙잡지 않습니다.
+     * - 요청 IP는 프록시가 붙인 X-Forwarded-For를 반영한 값입니다. (server.forward-headers-strategy)
+     * @param loginRequest 아이디와 비밀번호
+     * @return Access/Refresh 토큰 쌍 (해싱 대기열이 가득 차면 503 + Retry-After)
+     */
     @PostMapping("/login")
-    public ResponseEntity<String> login(@RequestBody LoginRequest loginRequest) {
-        String token = memberService.login(loginRequest.getLoginId(), loginRequest.getPassword());
-        return ResponseEntity.ok(token);
+    public CompletableFuture<ResponseEntity<TokenResponse>> login(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+        return memberService.login(loginRequest.getLoginId(), loginRequest.getPassword(), request.getRemoteAddr())
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * 토큰 재발급 API
+     * @param refreshRequest 로그인(또는 이전 재발급)에서 받은 Refresh Token
+     * @return 새 Access/Refresh 토큰 쌍 (이전 Refresh Token은 폐기됨)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody TokenRefreshRequest refreshRequest) {
+        return ResponseEntity.ok(memberService.refresh(refreshRequest.getRefreshToken()));
+    }
+
+    /**
+     * 로그아웃 API
+     * @param authorization 현재 Access Token (Authorization: Bearer ...)
+     * @param refreshRequest 폐기할 Refresh Token
+     * @return 204 No Content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization", required = false) String authorization,
+                                       @Valid @RequestBody TokenRefreshRequest refreshRequest) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        memberService.logout(accessToken, refreshRequest.getRefreshToken());
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -36,22 +73,24 @@ public class MemberController {
     /**
      * 회원가입 API
      * @param signUpRequest 프론트엔드에서 보낸 회원가입 정보 (JSON)
-     * @return 생성된 회원의 ID와 함께 201 Created 상태 코드
+     * @return 생성된 회원의 ID와 함께 201 Created 상태 코드 (해싱 대기열이 가득 차면 503 + Retry-After)
      */
     @PostMapping("/signup")
-    public ResponseEntity<Void> signup(@Valid @RequestBody SignUpRequest signUpRequest) {
+    public CompletableFuture<ResponseEntity<Void>> signup(@Valid @RequestBody SignUpRequest signUpRequest) {
         // 1. @Valid 어노테이션 추가
         //    - SignUpRequest DTO에 정의된 검증 규칙(@NotBlank, @Size 등)을 검사합니다.
         //    - 검증에 실패하면 MethodArgumentNotValidException이 발생하고, 400 Bad Request 에러가 응답됩니다.
         
-        Long memberId = memberService.signUp(
+        // 2. 비동기 응답
+        //    - 비밀번호 암호화는 해싱 전용 스레드 풀에서 실행되고, 요청 스레드는 바로 반납됩니다.
+        return memberService.signUp(
                 signUpRequest.getLoginId(),
                 signUpRequest.getPassword(),
                 signUpRequest.getName(),
                 signUpRequest.getEmail()
-        );
-
-        URI location = URI.create("/api/members/" + memberId);
-        return ResponseEntity.created(location).build();
+        ).thenApply(memberId -> {
+            URI location = URI.create("/api/members/" + memberId);
+            return ResponseEntity.created(location).<Void>build();
+        });
     }
 }
\ No newline at end of file
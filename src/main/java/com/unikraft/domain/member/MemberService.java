@@ -1,11 +1,17 @@
 package com.unikraft.domain.member;
 
+import com.unikraft.domain.member.dto.TokenResponse;
+import com.unikraft.global.error.ServiceUnavailableException;
+import com.unikraft.global.util.AuthMetrics;
 import com.unikraft.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -13,63 +19,162 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final JwtUtil jwtUtil;
-    private final PasswordEncoder passwordEncoder; // 1. PasswordEncoder 의존성 주입
+    private final PasswordHasher passwordHasher; // 1. 해싱 전용 스레드 풀 (PasswordEncoder를 감쌈)
+    private final LoginThrottle loginThrottle;
+    private final AuthMetrics authMetrics;
 
     /**
      * 회원가입 (Sign Up)
+     * - 비밀번호 암호화는 해싱 전용 스레드 풀(PasswordHasher)에서 실행되고, 완료되면 작업 스레드 풀에서 회원을 저장합니다.
      * @param loginId 사용자 ID
      * @param password 사용자 비밀번호 (평문)
      * @param name 사용자 이름
      * @param email 사용자 이메일
      * @return 생성된 회원의 ID
      */
-    @Transactional // 데이터를 저장하므로 쓰기 모드 트랜잭션 필요
-    public Long signUp(String loginId, String password, String name, String email) {
+    @Transactional(propagation = Propagation.SUPPORTS) // 저장은 해싱이 끝난 뒤 작업 스레드에서 repository 트랜잭션으로 실행됩니다.
+    public CompletableFuture<Long> signUp(String loginId, String password, String name, String email) {
 
         // 1. 중복 검사 (선택 사항이지만 권장)
         //    - 이미 존재하는 loginId나 email로 가입하려는지 확인합니다.
+        //    - 해싱 전에 확인하여, 중복 가입 요청이 해싱 스레드를 쓰지 않게 합니다.
         if (memberRepository.findByLoginId(loginId).isPresent()) {
             throw new IllegalArgumentException("이미 존재하는 아이디입니다.");
         }
 
-        // 2. 비밀번호 암호화
+        // 2. 비밀번호 암호화 (해싱 전용 스레드 풀)
         //    - 사용자가 입력한 평문 비밀번호를 BCrypt 알고리즘으로 암호화합니다.
         //    - 암호화된 비밀번호는 복호화가 불가능합니다.
-        String encodedPassword = passwordEncoder.encode(password);
+        //    - 대기열이 가득 차면 ServiceUnavailableException(503)이 발생합니다.
+        return passwordHasher.encode(password).thenApply(encodedPassword -> {
 
-        // 3. 회원 엔티티 생성 및 저장
-        Member member = Member.builder()
-                .loginId(loginId)
-                .password(encodedPassword) // 암호화된 비밀번호 저장
-                .name(name)
-                .email(email)
-                .build();
+            // 3. 회원 엔티티 생성 및 저장
+            Member member = Member.builder()
+                    .loginId(loginId)
+                    .password(encodedPassword) // 암호화된 비밀번호 저장
+                    .name(name)
+                    .email(email)
+                    .build();
 
-        memberRepository.save(member);
+            memberRepository.save(member);
 
-        return member.getId();
+            return member.getId();
+        });
     }
 
     /**
      * 로그인 (Login)
+     * - 처리 시간은 해싱이 끝나 토큰이 발급(또는 실패)된 시점까지 성공/실패별로 기록합니다. (unikraft.auth.login)
      * @param loginId 사용자 ID
      * @param password 사용자 비밀번호 (평문)
-     * @return 로그인 성공 시, 생성된 JWT 토큰을 반환합니다.
+     * @param clientIp 요청 IP (시도 횟수 제한용, 알 수 없으면 null)
+     * @return 로그인 성공 시, 생성된 Access/Refresh 토큰 쌍을 반환합니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS) // 차단된 요청이 DB 커넥션을 잡지 않도록 트랜잭션을 미리 열지 않습니다.
+    public CompletableFuture<TokenResponse> login(String loginId, String password, String clientIp) {
+        long start = System.nanoTime();
+        try {
+            // 1. 시도 횟수 제한
+            //    - 한도를 넘은 요청은 DB 조회와 BCrypt 비교 전에 429로 거절합니다.
+            loginThrottle.checkAllowed(loginId, clientIp);
+
+            // 2. 회원 조회
+            Member member = memberRepository.findByLoginId(loginId)
+                    .orElseThrow(() -> new IllegalArgumentException("가입되지 않은 아이디입니다."));
+
+            // 3. 비밀번호 일치 확인 (해싱 전용 스레드 풀)
+            //    - passwordEncoder.matches(평문, 암호화된값) 메서드를 사용해야 합니다.
+            //    - 내부적으로 평문을 암호화하여 DB의 값과 비교합니다.
+            //    - 대기열이 가득 차 거절되면 비밀번호를 확인하지 못했으므로 시도 횟수에서 뺍니다.
+            CompletableFuture<Boolean> matches;
+            try {
+                matches = passwordHasher.matches(password, member.getPassword());
+            } catch (ServiceUnavailableException e) {
+                loginThrottle.recordRejected(loginId, clientIp);
+                throw e;
+            }
+            return matches
+                    .thenCompose(matched -> {
+                        if (!matched) {
+                            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
+                        }
+                        loginThrottle.recordSuccess(loginId, clientIp);
+                        return upgradePassword(member, password);
+                    })
+                    // 5. JWT 토큰 쌍 생성
+                    .thenApply(ignored -> issueTokens(member.getLoginId(), jwtUtil.newTokenFamily()))
+                    .whenComplete((tokens, error) -> authMetrics.recordLogin(error == null, start));
+        } catch (RuntimeException e) {
+            // 해싱 전에 거절된 경우 (시도 한도 초과, 없는 아이디, 해싱 대기열 가득 참)
+            authMetrics.recordLogin(false, start);
+            throw e;
+        }
+    }
+
+    /**
+     * 토큰 재발급 (Refresh)
+     * - Refresh Token을 검증하고 즉시 폐기한 뒤, 같은 토큰 묶음으로 새 Access/Refresh 토큰 쌍을 발급합니다. (Rotation)
+     * - 이미 쓴 Refresh Token이 다시 들어오면 그 로그인에서 발급된 토큰을 모두 폐기합니다. (JwtUtil.consumeRefreshToken)
+     * - 비밀번호 해싱(BCrypt)이나 DB 조회 없이 서명 검증 한 번으로 끝나므로,
+     *   재접속이 몰려도 로그인보다 훨씬 적은 CPU를 사용합니다.
+     * @param refreshToken 로그인 또는 이전 재발급에서 받은 Refresh Token
+     * @return 새 토큰 쌍
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // DB를 쓰지 않으므로 커넥션을 잡지 않습니다.
+    public TokenResponse refresh(String refreshToken) {
+        JwtUtil.RefreshedSession session = jwtUtil.consumeRefreshToken(refreshToken)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 Refresh Token입니다."));
+        return issueTokens(session.subject(), session.family());
+    }
+
+    /**
+     * 로그아웃 (Logout)
+     * - Access Token과 Refresh Token을 만료 전에 폐기하여 더 이상 쓸 수 없게 합니다. (같은 로그인에서 재발급된 토큰 포함)
+     * @param accessToken 현재 Access Token (없으면 null)
+     * @param refreshToken 현재 Refresh Token
      */
-    public String login(String loginId, String password) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // DB를 쓰지 않으므로 커넥션을 잡지 않습니다.
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            jwtUtil.revoke(accessToken);
+        }
+        jwtUtil.revoke(refreshToken);
+    }
 
-        // 1. 회원 조회
-        Member member = memberRepository.findByLoginId(loginId)
-                .orElseThrow(() -> new IllegalArgumentException("가입되지 않은 아이디입니다."));
+    /**
+     * 회원 조회 (읽기 전용)
+     * - 클래스 기본값인 읽기 전용 트랜잭션에서 조회하므로, 읽기 복제본 라우팅을 켜면 복제본에서 읽습니다.
+     * - 로그인/회원가입의 아이디 조회는 방금 가입한 회원도 보이도록 원본에서 읽습니다. (SUPPORTS, 트랜잭션 밖)
+     * @param loginId 사용자 ID
+     * @return 회원 (없으면 빈 값)
+     */
+    public Optional<Member> findMember(String loginId) {
+        return memberRepository.findByLoginId(loginId);
+    }
 
-        // 2. 비밀번호 일치 확인 (암호화된 비밀번호 비교)
-        //    - passwordEncoder.matches(평문, 암호화된값) 메서드를 사용해야 합니다.
-        //    - 내부적으로 평문을 암호화하여 DB의 값과 비교합니다.
-        if (!passwordEncoder.matches(password, member.getPassword())) {
-            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
+    // 4. 비밀번호 재암호화 (Re-hash)
+    //    - 저장된 비밀번호의 BCrypt 강도가 설정값보다 낮으면, 평문을 알고 있는 지금 새 강도로 다시 암호화합니다.
+    //    - 강도를 올려도 회원이 비밀번호를 바꿀 필요 없이 로그인할 때마다 점진적으로 옮겨 갑니다.
+    //    - 해싱 대기열이 가득 차 있으면 이번에는 건너뛰고 다음 로그인 때 다시 시도합니다.
+    private CompletableFuture<Void> upgradePassword(Member member, String password) {
+        if (!passwordHasher.upgradeEncoding(member.getPassword())) {
+            return CompletableFuture.completedFuture(null);
         }
+        try {
+            return passwordHasher.encode(password).thenAccept(encodedPassword -> {
+                member.changePassword(encodedPassword);
+                memberRepository.save(member);
+            });
+        } catch (ServiceUnavailableException e) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
 
-        // 3. JWT 토큰 생성
-        return jwtUtil.createToken(member.getLoginId());
+    private TokenResponse issueTokens(String loginId, String family) {
+        return new TokenResponse(
+                jwtUtil.createToken(loginId, family),
+                jwtUtil.createRefreshToken(loginId, family),
+                jwtUtil.getAccessTokenTtl().toSeconds()
+        );
     }
 }
\ No newline at end of file
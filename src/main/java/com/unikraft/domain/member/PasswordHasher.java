@@ -0,0 +1,144 @@
+package com.unikraft.domain.member;
+
+import com.unikraft.global.error.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * PasswordHasher (비밀번호 해싱 전용 스레드 풀)
+ *
+ * [도입 배경]
+ * - BCrypt 해싱은 한 번에 수십~수백 ms 동안 CPU를 씁니다.
+ * - 요청 스레드(Tomcat)에서 바로 해싱하면 회원가입이 몰릴 때 요청 스레드가 모두 해싱에 묶여,
+ *   상품 조회처럼 가벼운 요청까지 줄을 서게 됩니다.
+ *
+ * [동작 방식]
+ * - 해싱은 크기가 정해진 전용 스레드 풀에서 실행하고, 결과는 CompletableFuture로 돌려줍니다.
+ *   (컨트롤러가 CompletableFuture를 반환하면 요청 스레드는 해싱을 기다리지 않고 바로 반납됩니다.)
+ * - 대기열이 가득 차면 더 받지 않고 즉시 503 + Retry-After로 거절합니다. (Backpressure)
+ * - 결과 CompletableFuture는 애플리케이션 작업 스레드 풀(applicationTaskExecutor)에서 완료됩니다.
+ *   그래서 뒤에 이어 붙인 회원 저장 같은 DB 작업은 해싱 스레드를 붙잡지 않습니다. (해싱 스레드는 해싱만 합니다)
+ *
+ * [설정]
+ * - unikraft.security.hashing.threads: 해싱 스레드 수 (기본: CPU 코어 수의 절반, 최소 1)
+ * - unikraft.security.hashing.queue-capacity: 대기열 크기 (기본 64)
+ *
+ * [메트릭]
+ * - unikraft.hashing.queue.depth: 대기 중인 해싱 작업 수
+ * - unikraft.hashing.duration{operation=encode|matches}: 해싱 소요 시간
+ * - unikraft.hashing.rejected: 대기열이 가득 차 거절된 횟수
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Executor completionExecutor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor completionExecutor,
+                          @Value("${unikraft.security.hashing.threads:0}") int threads,
+                          @Value("${unikraft.security.hashing.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.completionExecutor = completionExecutor;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("unikraft.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("대기 중인 비밀번호 해싱 작업 수")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("unikraft.hashing.duration")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("unikraft.hashing.duration")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("unikraft.hashing.rejected")
+                .description("대기열이 가득 차 거절된 해싱 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 암호화 (비동기)
+     * @param rawPassword 평문 비밀번호
+     * @return 암호화된 비밀번호
+     * @throws ServiceUnavailableException 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 일치 확인 (비동기)
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 암호화 비밀번호
+     * @return 일치 여부
+     * @throws ServiceUnavailableException 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 비밀번호를 현재 강도로 다시 암호화해야 하는지 확인합니다. (해싱 없음, 즉시 반환)
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), executor)
+                    .thenApplyAsync(result -> result, completionExecutor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 해싱 대기열이 가득 찼습니다. queue={}", executor.getQueue().size());
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    retryAfterSeconds());
+        }
+    }
+
+    // 대기열이 모두 처리될 때까지의 예상 시간 (평균 해싱 시간 × 대기 작업 수 ÷ 스레드 수)
+    private long retryAfterSeconds() {
+        double meanMillis = Math.max(encodeTimer.mean(TimeUnit.MILLISECONDS), matchesTimer.mean(TimeUnit.MILLISECONDS));
+        double drainMillis = meanMillis * executor.getQueue().size() / executor.getMaximumPoolSize();
+        return Math.max(1, (long) Math.ceil(drainMillis / 1000));
+    }
+}
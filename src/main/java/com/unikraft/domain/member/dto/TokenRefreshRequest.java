@@ -0,0 +1,13 @@
+package com.unikraft.domain.member.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TokenRefreshRequest {
+
+    @NotBlank(message = "Refresh Token은 필수 입력 값입니다.")
+    private String refreshToken;
+}
@@ -0,0 +1,30 @@
+package com.unikraft.domain.member.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TokenResponse {
+
+    // 1. Access Token
+    //    - API 요청 시 Authorization: Bearer {accessToken} 헤더로 보냅니다.
+    private String accessToken;
+
+    // 2. Refresh Token
+    //    - Access Token이 만료되면 /api/members/refresh 로 보내 새 토큰 쌍을 받습니다.
+    //    - 한 번 사용하면 폐기되므로, 응답으로 받은 새 Refresh Token으로 교체해야 합니다.
+    private String refreshToken;
+
+    private String tokenType;
+
+    // 3. Access Token 유효 시간 (초)
+    private long expiresIn;
+
+    public TokenResponse(String accessToken, String refreshToken, long expiresIn) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.tokenType = "Bearer";
+        this.expiresIn = expiresIn;
+    }
+}
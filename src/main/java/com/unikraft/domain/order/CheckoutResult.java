@@ -0,0 +1,12 @@
+package com.unikraft.domain.order;
+
+import java.util.Map;
+
+/**
+ * 장바구니 주문 결과
+ * - 메모리 장바구니(CartStore)는 주문 후 orderedQuantities만큼만 빼므로, 주문이 실제로 읽은 줄을 그대로 담습니다.
+ * @param orderId 생성된 주문의 ID
+ * @param orderedQuantities 주문한 상품 ID → 수량
+ */
+public record CheckoutResult(Long orderId, Map<Long, Integer> orderedQuantities) {
+}
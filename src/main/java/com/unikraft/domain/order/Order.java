@@ -1,11 +1,15 @@
 package com.unikraft.domain.order;
 
 import com.unikraft.domain.member.Member;
+import com.unikraft.global.util.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,11 +18,16 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 회원별 주문 목록을 (orderDate, id) 순으로 커서 페이징하기 위한 복합 인덱스
+        @Index(name = "idx_orders_member_date_id", columnList = "member_id, order_date, id")
+})
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "orders_seq")
+    @GenericGenerator(name = "orders_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "orders_seq"))
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
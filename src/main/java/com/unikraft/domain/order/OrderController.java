@@ -1,14 +1,15 @@
 package com.unikraft.domain.order;
 
+import com.unikraft.domain.order.dto.OrderBatchRequest;
+import com.unikraft.domain.order.dto.OrderPageResponse;
 import com.unikraft.domain.order.dto.OrderRequest;
-import com.unikraft.domain.order.dto.OrderResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -38,19 +39,40 @@ public class OrderController {
     }
 
     /**
-     * 내 주문 목록 조회 API
+     * 여러 상품 일괄 주문 API
+     * - 장바구니처럼 여러 상품을 한 번의 요청, 한 번의 트랜잭션으로 주문합니다.
      * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
-     * @return 주문 목록 (DTO 리스트)
+     * @param request 주문 상품 목록 (상품 ID, 수량)
+     * @return 생성된 주문의 ID와 함께 201 Created 상태 코드
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Void> createBatchOrder(@AuthenticationPrincipal String loginId,
+                                                 @Valid @RequestBody OrderBatchRequest request) {
+
+        Long orderId = orderService.createOrder(loginId, request.getOrderItems());
+
+        URI location = URI.create("/api/orders/" + orderId);
+        return ResponseEntity.created(location).build();
+    }
+
+    /**
+     * 내 주문 목록 조회 API (커서 기반 페이징)
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param limit 한 페이지에 담을 주문 수 (기본 20, 최대 100)
+     * @return 주문 목록과 다음 페이지 커서
      */
     @GetMapping("/my")
-    public ResponseEntity<List<OrderResponse>> getMyOrders(@AuthenticationPrincipal String loginId) {
+    public ResponseEntity<OrderPageResponse> getMyOrders(@AuthenticationPrincipal String loginId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "20") int limit) {
         // 1. 서비스 호출
         //    - 토큰에서 추출한 loginId를 서비스에 전달합니다.
-        //    - 서비스는 해당 사용자의 주문 목록을 조회하여 DTO 리스트로 반환합니다.
-        List<OrderResponse> myOrders = orderService.findMyOrders(loginId);
+        //    - 서비스는 커서 이후의 주문을 limit 만큼 조회하여 DTO로 반환합니다.
+        OrderPageResponse myOrders = orderService.findMyOrders(loginId, cursor, limit);
 
         // 2. 응답 생성
         //    - 조회된 주문 목록을 200 OK 상태 코드와 함께 반환합니다.
         return ResponseEntity.ok(myOrders);
     }
-}
\ No newline at end of file
+}
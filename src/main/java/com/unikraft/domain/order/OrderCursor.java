@@ -0,0 +1,49 @@
+package com.unikraft.domain.order;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 커서 (Keyset Pagination Cursor)
+ *
+ * - 마지막으로 내려준 주문의 (orderDate, id)를 기억해서, 다음 페이지는 "그보다 이전 주문"부터 조회합니다.
+ * - OFFSET 방식은 앞 페이지를 모두 건너뛰며 읽어야 하지만, 커서 방식은 인덱스에서 바로 시작 위치를 찾으므로
+ *   1페이지와 1,000페이지의 비용이 같습니다.
+ * - 클라이언트에게는 내부 구조를 숨긴 불투명한(opaque) Base64 문자열로 전달합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime orderDate;
+    private final Long id;
+
+    public static OrderCursor of(Order order) {
+        return new OrderCursor(order.getOrderDate(), order.getId());
+    }
+
+    public String encode() {
+        String raw = orderDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(DELIMITER);
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor=" + token);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.unikraft.domain.order;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderMetrics (주문 지표)
+ *
+ * [지표]
+ * - unikraft.order.duration{operation=create|batch|checkout, outcome=success|failure}: 주문 처리 시간 (커밋 포함)
+ *   실패(재고 부족, 롤백된 주문)도 outcome=failure로 기록하므로 실패가 느린지 빠른지도 볼 수 있습니다.
+ * - unikraft.order.step{step=member|product|stock|commit}: 단건 주문(createOrder)의 단계별 소요 시간
+ *   commit은 커밋 시 나가는 주문 INSERT(flush)와 DB 커밋을 합친 시간입니다.
+ * - unikraft.order.stock-out: 재고 부족으로 거절된 주문 수
+ * - Timer는 백분위 히스토그램(_bucket)을 함께 내보내므로 Prometheus에서 여러 서버의 p99를 합쳐 계산할 수 있습니다.
+ *
+ * [측정 방식]
+ * - startOrder()가 트랜잭션에 TransactionSynchronization을 등록하고, 커밋 직전/직후와 트랜잭션 종료 시점에 기록합니다.
+ *   INSERT 시간을 재려고 flush를 앞당기지 않으므로 SQL이 나가는 시점과 잠금을 잡는 시간이 측정하지 않을 때와 같습니다.
+ *
+ * [비용]
+ * - Timer/Counter는 생성 시 한 번만 등록하고, 호출 시에는 레지스트리를 조회하지 않습니다. (EnumMap 배열 조회)
+ * - 시간은 System.nanoTime() 차이로 기록하며, 다음 단계의 시작 시각으로 그대로 넘겨 nanoTime 호출을 줄입니다.
+ */
+@Component
+public class OrderMetrics {
+
+    public enum Operation {
+        CREATE, BATCH, CHECKOUT
+    }
+
+    public enum Step {
+        MEMBER, PRODUCT, STOCK, COMMIT
+    }
+
+    private final Clock clock;
+    private final Map<Operation, Timer> successes = new EnumMap<>(Operation.class);
+    private final Map<Operation, Timer> failures = new EnumMap<>(Operation.class);
+    private final Map<Step, Timer> steps = new EnumMap<>(Step.class);
+    private final Counter stockOuts;
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        this.clock = meterRegistry.config().clock();
+        for (Operation operation : Operation.values()) {
+            successes.put(operation, durationTimer(meterRegistry, operation, "success"));
+            failures.put(operation, durationTimer(meterRegistry, operation, "failure"));
+        }
+        for (Step step : Step.values()) {
+            steps.put(step, Timer.builder("unikraft.order.step")
+                    .description("단건 주문의 단계별 소요 시간")
+                    .tag("step", step.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.of(10, ChronoUnit.MICROS))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry));
+        }
+        this.stockOuts = Counter.builder("unikraft.order.stock-out")
+                .description("재고 부족으로 거절된 주문 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주문 한 건의 시간 재기 시작 (@Transactional 주문 메서드의 첫 줄에서 호출)
+     * - 트랜잭션이 끝나면 커밋 여부에 따라 outcome=success|failure로 기록합니다.
+     * - 단건 주문(CREATE)은 커밋 시간을 commit 단계로 함께 기록합니다.
+     * @param operation 주문 종류
+     * @return 시작 시각 (System.nanoTime(), 첫 단계의 시작 시각으로 사용)
+     */
+    public long startOrder(Operation operation) {
+        TransactionSynchronizationManager.registerSynchronization(new OrderTiming(operation, Timer.start(clock)));
+        return System.nanoTime();
+    }
+
+    /**
+     * 주문 단계 하나의 소요 시간 기록
+     * @param step 단계
+     * @param startNanos 단계 시작 시각 (System.nanoTime())
+     * @return 단계가 끝난 시각 (다음 단계의 시작 시각)
+     */
+    public long recordStep(Step step, long startNanos) {
+        long now = System.nanoTime();
+        steps.get(step).record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void stockOut() {
+        stockOuts.increment();
+    }
+
+    private static Timer durationTimer(MeterRegistry meterRegistry, Operation operation, String outcome) {
+        return Timer.builder("unikraft.order.duration")
+                .description("주문 처리 시간")
+                .tag("operation", operation.name().toLowerCase())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주문 트랜잭션 하나의 시간 기록 (트랜잭션 스레드에서만 호출됨)
+     */
+    private final class OrderTiming implements TransactionSynchronization {
+
+        private final Operation operation;
+        private final Timer.Sample sample;
+        private long commitStart;
+
+        private OrderTiming(Operation operation, Timer.Sample sample) {
+            this.operation = operation;
+            this.sample = sample;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            commitStart = System.nanoTime();
+        }
+
+        @Override
+        public void afterCommit() {
+            if (operation == Operation.CREATE) {
+                recordStep(Step.COMMIT, commitStart);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            sample.stop((status == STATUS_COMMITTED ? successes : failures).get(operation));
+        }
+    }
+}
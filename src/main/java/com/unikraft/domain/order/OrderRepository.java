@@ -1,9 +1,46 @@
 package com.unikraft.domain.order;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findAllByMemberId(Long memberId);
-}
\ No newline at end of file
+
+    // 1. 주문 목록 첫 페이지의 주문 ID 조회 (Keyset Pagination)
+    //    - orders(member_id, order_date, id) 인덱스를 역순으로 읽으며 limit 만큼만 가져옵니다.
+    //    - 회원은 loginId(유니크 인덱스)로 조인만 하고 엔티티로 읽지 않습니다.
+    //      (Member를 읽으면 mappedBy 쪽 @OneToOne cart는 지연 로딩이 안 되어 cart 조회가 한 번 더 나갑니다)
+    @Query("select o.id from Order o join o.member m " +
+            "where m.loginId = :loginId " +
+            "order by o.orderDate desc, o.id desc")
+    List<Long> findPageIds(@Param("loginId") String loginId, Pageable pageable);
+
+    // 2. 커서 이후 페이지의 주문 ID 조회
+    //    - 커서의 (orderDate, id)보다 이전 주문부터 읽기 때문에 OFFSET 없이 바로 시작 위치를 찾습니다.
+    @Query("select o.id from Order o join o.member m " +
+            "where m.loginId = :loginId " +
+            "and (o.orderDate < :orderDate or (o.orderDate = :orderDate and o.id < :id)) " +
+            "order by o.orderDate desc, o.id desc")
+    List<Long> findPageIdsAfter(@Param("loginId") String loginId,
+                                @Param("orderDate") LocalDateTime orderDate,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    // 3. 주문 + 주문 상품 + 상품을 한 번에 조회 (Fetch Join)
+    //    - OrderResponse 변환 시 order.getOrderItems(), orderItem.getProduct()를 호출해도
+    //      추가 쿼리(N+1)가 발생하지 않도록 필요한 연관 엔티티를 한 쿼리로 함께 가져옵니다.
+    //    - 컬렉션 fetch join에 limit을 걸면 메모리에서 페이징되므로, 페이지의 주문 ID를 먼저 구한 뒤 조회합니다.
+    //    - distinct: 컬렉션 조인으로 주문이 상품 수만큼 중복되는 것을 제거합니다.
+    @Query("select distinct o from Order o " +
+            "left join fetch o.orderItems oi " +
+            "left join fetch oi.product " +
+            "where o.id in :ids " +
+            "order by o.orderDate desc, o.id desc")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+}
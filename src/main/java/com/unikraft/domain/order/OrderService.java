@@ -1,15 +1,32 @@
 package com.unikraft.domain.order;
 
+import com.unikraft.domain.cart.Cart;
+import com.unikraft.domain.cart.CartItem;
+import com.unikraft.domain.cart.CartItemRepository;
+import com.unikraft.domain.cart.CartRepository;
 import com.unikraft.domain.member.Member;
 import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.order.dto.OrderItemRequest;
+import com.unikraft.domain.order.dto.OrderPageResponse;
 import com.unikraft.domain.order.dto.OrderResponse;
 import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductChangedEvent;
 import com.unikraft.domain.product.ProductRepository;
+import com.unikraft.domain.product.StockLedger;
+import com.unikraft.global.util.ReadYourWritesWindow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,12 +34,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderService {
 
+    // 주문 목록 한 페이지의 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 일괄 주문 한 번에 담을 수 있는 최대 상품 줄 수 (OrderBatchRequest 검증과 공유)
+    public static final int MAX_BATCH_ITEMS = 100;
+
     private final OrderRepository orderRepository;
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
+    private final StockLedger stockLedger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final OrderMetrics orderMetrics;
 
     /**
      * 주문 생성
+     * - 단계(회원 조회 → 상품 조회 → 재고 차감 → 커밋)마다 소요 시간을 기록합니다. (OrderMetrics)
      * @param loginId 주문자 ID (토큰에서 추출)
      * @param productId 주문할 상품 ID
      * @param count 주문 수량
@@ -30,17 +60,21 @@ public class OrderService {
      */
     @Transactional
     public Long createOrder(String loginId, Long productId, int count) {
+        long start = orderMetrics.startOrder(OrderMetrics.Operation.CREATE);
 
         // 1. 회원 엔티티 조회
         Member member = memberRepository.findByLoginId(loginId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 회원이 없습니다. id=" + loginId));
+        long stepStart = orderMetrics.recordStep(OrderMetrics.Step.MEMBER, start);
 
         // 2. 상품 엔티티 조회
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 상품이 없습니다. id=" + productId));
+        stepStart = orderMetrics.recordStep(OrderMetrics.Step.PRODUCT, stepStart);
 
         // 3. 재고 감소 로직 호출
-        product.removeStock(count);
+        decreaseStock(productId, count);
+        orderMetrics.recordStep(OrderMetrics.Step.STOCK, stepStart);
 
         // 4. 주문 상품(OrderItem) 만들기
         OrderItem orderItem = OrderItem.createOrderItem(product, product.getPrice(), count);
@@ -48,31 +82,207 @@ public class OrderService {
         // 5. 주문(Order) 만들기
         Order order = Order.createOrder(member, orderItem);
 
-        // 6. 주문 저장
+        // 6. 주문 저장 (INSERT는 커밋 때 나가며, 그 시간은 OrderMetrics가 commit 단계로 잽니다)
         orderRepository.save(order);
 
+        // 7. 잠시 동안 이 회원의 조회는 원본 DB에서 읽도록 표시 (복제 지연으로 방금 한 주문이 안 보이는 것 방지)
+        readYourWritesWindow.markWrite(loginId);
         return order.getId();
     }
 
     /**
-     * 내 주문 목록 조회
-     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
-     * @return 주문 목록 (DTO 리스트)
+     * 여러 상품 일괄 주문
+     * - 회원 조회 1번, 상품 조회 1번(findAllById)으로 주문 전체를 처리합니다.
+     * - 재고는 상품 ID 오름차순으로 차감하여, 동시에 들어온 주문끼리 행 잠금 순서가 엇갈리지 않게(교착 상태 방지) 합니다.
+     * - 주문 상품(OrderItem)은 하나의 주문에 모여 한 번에 저장되므로 JDBC 배치로 INSERT 됩니다.
+     * @param loginId 주문자 ID (토큰에서 추출)
+     * @param itemRequests 주문 상품 목록
+     * @return 생성된 주문의 ID
      */
-    public List<OrderResponse> findMyOrders(String loginId) {
-        // 1. 회원 조회
-        //    - 토큰에서 추출한 loginId로 회원을 찾습니다.
+    @Transactional
+    public Long createOrder(String loginId, List<OrderItemRequest> itemRequests) {
+        orderMetrics.startOrder(OrderMetrics.Operation.BATCH);
+        if (itemRequests.isEmpty() || itemRequests.size() > MAX_BATCH_ITEMS) {
+            throw new IllegalArgumentException("주문 상품은 1개 이상 " + MAX_BATCH_ITEMS + "개 이하여야 합니다. size=" + itemRequests.size());
+        }
+
+        // 1. 회원 엔티티 조회
         Member member = memberRepository.findByLoginId(loginId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 회원이 없습니다. id=" + loginId));
 
-        // 2. 주문 목록 조회
-        //    - 회원의 ID(PK)를 사용하여 주문 목록을 조회합니다.
-        List<Order> orders = orderRepository.findAllByMemberId(member.getId());
+        // 2. 같은 상품을 합치고 상품 ID 순으로 정렬
+        //    - TreeMap은 키(상품 ID) 오름차순으로 순회합니다.
+        Map<Long, Integer> counts = new TreeMap<>();
+        for (OrderItemRequest itemRequest : itemRequests) {
+            counts.merge(itemRequest.getProductId(), itemRequest.getCount(), Integer::sum);
+        }
+
+        // 3. 상품 엔티티 한 번에 조회
+        Map<Long, Product> products = productRepository.findAllById(counts.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 4. 상품 ID 순서대로 재고 차감 후 주문 상품 만들기
+        List<OrderItem> orderItems = new ArrayList<>(counts.size());
+        for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                throw new IllegalArgumentException("해당 상품이 없습니다. id=" + entry.getKey());
+            }
+
+            decreaseStock(product.getId(), entry.getValue());
+            orderItems.add(OrderItem.createOrderItem(product, product.getPrice(), entry.getValue()));
+        }
+
+        // 5. 주문(Order) 만들기 및 저장
+        Order order = Order.createOrder(member, orderItems.toArray(new OrderItem[0]));
+        orderRepository.save(order);
+
+        // 6. 잠시 동안 이 회원의 조회는 원본 DB에서 읽도록 표시
+        readYourWritesWindow.markWrite(loginId);
+        return order.getId();
+    }
+
+    /**
+     * 장바구니 주문 (Checkout)
+     * - 장바구니에 담긴 상품 전체를 하나의 주문으로 만들고 장바구니를 비웁니다. (한 트랜잭션)
+     * - 메모리 장바구니(CartStore)의 변경은 호출 전에 DB에 반영되어 있어야 합니다. (CartService.checkout 참고)
+     * - 장바구니 줄 수와 관계없이 DB 왕복 횟수가 거의 일정하도록 모든 단계를 한 번에 처리합니다.
+     *   회원 조회 → 장바구니 + 상품 조회(fetch join) → 재고 차감(UPDATE 1번) → 주문 저장(JDBC 배치) → 장바구니 비우기(DELETE 1번)
+     * @param loginId 주문자 ID (토큰에서 추출)
+     * @return 생성된 주문의 ID와 주문한 줄 (상품 ID → 수량)
+     */
+    @Transactional
+    public CheckoutResult checkout(String loginId) {
+        orderMetrics.startOrder(OrderMetrics.Operation.CHECKOUT);
+
+        // 1. 회원 엔티티 조회
+        Member member = memberRepository.findByLoginId(loginId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 회원이 없습니다. id=" + loginId));
+
+        // 2. 장바구니를 잠근 뒤 아이템 + 상품 한 번에 조회하고 재고 확인
+        //    - 잠금은 커밋까지 유지되므로, 같은 회원의 담기/수량 변경이 끼어들어 읽은 줄과 차감/삭제하는 줄이 달라지지 않습니다.
+        Cart cart = cartRepository.findByMemberIdForUpdate(member.getId())
+                .orElseThrow(() -> new IllegalArgumentException("장바구니가 비어 있습니다."));
+        List<CartItem> cartItems = cartItemRepository.findAllWithProductByCartId(cart.getId());
+        if (cartItems.isEmpty()) {
+            throw new IllegalArgumentException("장바구니가 비어 있습니다.");
+        }
+
+        List<Long> outOfStock = cartItems.stream()
+                .filter(cartItem -> !cartItem.isStockAvailable())
+                .map(cartItem -> cartItem.getProduct().getId())
+                .toList();
+        if (!outOfStock.isEmpty()) {
+            orderMetrics.stockOut();
+            throw new IllegalArgumentException("재고가 부족합니다. id=" + outOfStock);
+        }
+
+        // 3. 재고 차감
+        //    - 장부가 켜져 있으면 메모리에서 상품별로 예약하고(롤백 시 자동 취소), 꺼져 있으면 UPDATE 한 문장으로 모두 차감합니다.
+        //    - 조회 이후 다른 주문이 재고를 가져갔다면 바뀐 행 수가 모자라므로 전체를 롤백합니다.
+        if (stockLedger.isEnabled()) {
+            for (CartItem cartItem : cartItems) {
+                if (!stockLedger.reserve(cartItem.getProduct().getId(), cartItem.getQuantity())) {
+                    orderMetrics.stockOut();
+                    throw new IllegalArgumentException("재고가 부족합니다. id=" + cartItem.getProduct().getId());
+                }
+            }
+        } else if (productRepository.decreaseStockByCart(cart.getId()) != cartItems.size()) {
+            orderMetrics.stockOut();
+            throw new IllegalArgumentException("재고가 부족합니다. cartId=" + cart.getId());
+        }
+
+        // 4. 주문 상품 만들기 및 주문 저장 (주문 상품은 JDBC 배치로 INSERT)
+        OrderItem[] orderItems = cartItems.stream()
+                .map(cartItem -> OrderItem.createOrderItem(cartItem.getProduct(), cartItem.getProduct().getPrice(), cartItem.getQuantity()))
+                .toArray(OrderItem[]::new);
+        Order order = Order.createOrder(member, orderItems);
+        orderRepository.save(order);
+
+        // 5. 장바구니 비우기 (DELETE 한 문장)
+        cartItemRepository.deleteAllByCartId(cart.getId());
+
+        // 6. 재고 변경 알림, 잠시 동안 이 회원의 조회는 원본 DB에서 읽도록 표시
+        for (CartItem cartItem : cartItems) {
+            eventPublisher.publishEvent(ProductChangedEvent.stockChanged(cartItem.getProduct().getId(), -cartItem.getQuantity()));
+        }
+        readYourWritesWindow.markWrite(loginId);
+
+        Map<Long, Integer> orderedQuantities = new LinkedHashMap<>();
+        for (CartItem cartItem : cartItems) {
+            orderedQuantities.put(cartItem.getProduct().getId(), cartItem.getQuantity());
+        }
+        return new CheckoutResult(order.getId(), orderedQuantities);
+    }
+
+    /**
+     * 내 주문 목록 조회 (커서 기반 페이징)
+     * @param loginId 로그인한 사용자의 ID (토큰에서 추출)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param limit 한 페이지에 담을 주문 수
+     * @return 주문 목록과 다음 페이지 커서
+     */
+    public OrderPageResponse findMyOrders(String loginId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다. limit=" + limit);
+        }
+
+        // 1. 이번 페이지의 주문 ID 조회
+        //    - 회원 엔티티를 따로 조회하지 않고, 토큰에서 추출한 loginId로 바로 조인해서 찾습니다.
+        //    - 다음 페이지가 있는지 알기 위해 limit보다 1개 더 조회합니다.
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<Long> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = orderRepository.findPageIds(loginId, pageable);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            ids = orderRepository.findPageIdsAfter(loginId, after.getOrderDate(), after.getId(), pageable);
+        }
+
+        boolean hasNext = ids.size() > limit;
+        if (hasNext) {
+            ids = ids.subList(0, limit);
+        }
+        if (ids.isEmpty()) {
+            return new OrderPageResponse(List.of(), null);
+        }
+
+        // 2. 주문 상세 조회
+        //    - 주문 상품과 상품까지 fetch join으로 함께 가져오므로, 페이지 크기와 관계없이 쿼리 1번으로 끝납니다.
+        List<Order> orders = orderRepository.findAllWithItemsByIdIn(ids);
 
         // 3. DTO 변환
         //    - 조회된 주문 엔티티 리스트를 OrderResponse DTO 리스트로 변환합니다.
-        return orders.stream()
+        List<OrderResponse> responses = orders.stream()
                 .map(OrderResponse::new)
                 .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? OrderCursor.of(orders.get(orders.size() - 1)).encode() : null;
+        return new OrderPageResponse(responses, nextCursor);
+    }
+
+    /**
+     * 재고 차감
+     * - 재고 장부가 켜져 있으면 메모리에서 잠금 없이 예약하고, DB 반영은 장부가 모아서 처리합니다.
+     * - 장부가 꺼져 있으면 조건부 UPDATE 한 문장으로 차감하고, 바뀐 행 수로 성공 여부를 판단합니다.
+     * @param productId 상품 ID
+     * @param count 차감 수량
+     */
+    private void decreaseStock(Long productId, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("주문 수량은 1개 이상이어야 합니다. count=" + count);
+        }
+
+        boolean decreased = stockLedger.isEnabled()
+                ? stockLedger.reserve(productId, count)
+                : productRepository.decreaseStock(productId, count) == 1;
+
+        if (!decreased) {
+            orderMetrics.stockOut();
+            throw new IllegalArgumentException("재고가 부족합니다. id=" + productId);
+        }
+
+        // 재고 변경을 알려서 검색 인덱스 등이 커밋 이후에 반영하도록 합니다.
+        eventPublisher.publishEvent(ProductChangedEvent.stockChanged(productId, -count));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.unikraft.domain.order.dto;
+
+import com.unikraft.domain.order.OrderService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class OrderBatchRequest {
+
+    // 1. 한 번에 주문할 상품 목록
+    //    - 장바구니 전체를 한 번의 요청(한 번의 트랜잭션)으로 주문할 때 사용합니다.
+    //    - 한 트랜잭션이 잡는 행 잠금과 요청 크기를 제한하기 위해 최대 개수를 둡니다.
+    @NotEmpty(message = "주문할 상품을 1개 이상 선택해주세요.")
+    @Size(max = OrderService.MAX_BATCH_ITEMS, message = "한 번에 주문할 수 있는 상품은 최대 " + OrderService.MAX_BATCH_ITEMS + "개입니다.")
+    @Valid
+    private List<OrderItemRequest> orderItems;
+}
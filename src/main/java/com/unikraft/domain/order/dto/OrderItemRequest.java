@@ -1,12 +1,19 @@
 package com.unikraft.domain.order.dto;
 
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 public class OrderItemRequest {
 
+    @NotNull(message = "상품 ID는 필수 입력 값입니다.")
     private Long productId;
+
+    @Min(value = 1, message = "주문 수량은 1개 이상이어야 합니다.")
     private int count;
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.unikraft.domain.order.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class OrderPageResponse {
+
+    private List<OrderResponse> orders;
+
+    // 1. 다음 페이지 커서
+    //    - 다음 요청의 cursor 파라미터로 그대로 전달하면 됩니다.
+    //    - 마지막 페이지이면 null 입니다.
+    private String nextCursor;
+
+    public OrderPageResponse(List<OrderResponse> orders, String nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+}
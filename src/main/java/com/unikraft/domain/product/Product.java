@@ -1,18 +1,40 @@
 package com.unikraft.domain.product;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.unikraft.global.util.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.springframework.data.domain.AbstractAggregateRoot;
 
+// 2차 캐시에 넣지 않습니다.
+// - 재고 차감은 벌크 UPDATE(ProductRepository.decreaseStock 등)라서, Hibernate가 실행할 때마다 Product 캐시 영역 전체를 비웁니다.
+//   주문이 들어오는 동안에는 적중률이 거의 0이 되고 무효화 비용만 남습니다.
+// - 상품 조회 캐시는 ProductCache(상품 정보 ttl + 재고 stock-ttl)가 맡습니다.
 @Entity
 @Getter
 @NoArgsConstructor
-public class Product {
+@Table(indexes = {
+        // 카탈로그 조회용 인덱스 (ProductRepositoryImpl.findCatalog)
+        // - 카테고리 필터 + 가격 정렬/범위, 가격 정렬/범위, 카테고리 필터 + 최신순 (id는 커서 페이징의 동점 처리용)
+        // - 필터 없는 최신순은 기본 키(id) 순서로 읽습니다.
+        // - stock_quantity는 인덱스에 넣지 않습니다. inStock 조건은 인덱스 순서로 읽은 행에서 거릅니다.
+        //   재고 차감(decreaseStock, decreaseStockByCart, StockLedger)은 주문이 몰릴 때 가장 자주 실행되는 쓰기인데,
+        //   인덱스에 넣으면 UPDATE마다 보조 인덱스 3개를 함께 고쳐야 합니다. 품절 상품은 보통 일부라서 행에서 걸러도 몇 행 더 읽는 정도입니다.
+        @Index(name = "idx_product_category_price_id", columnList = "category_id, price, id"),
+        @Index(name = "idx_product_price_id", columnList = "price, id"),
+        @Index(name = "idx_product_category_id", columnList = "category_id, id")
+})
+public class Product extends AbstractAggregateRoot<Product> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "product_seq")
+    @GenericGenerator(name = "product_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "product_seq"))
     private Long id;
 
     private String name;
@@ -31,6 +53,13 @@ public class Product {
 
     private int stockQuantity;
 
+    // 상품 버전 (낙관적 잠금 + HTTP ETag)
+    // - JPA로 상품을 고치면 Hibernate가 커밋할 때 1씩 올립니다.
+    // - JPA를 거치지 않는 재고 차감(ProductRepository의 조건부 UPDATE, StockLedger의 JDBC 배치)도 같은 문장에서 1씩 올려야 합니다.
+    // - 기존 DB(ddl-auto: validate)에는 version 컬럼(bigint not null default 0)을 먼저 추가해야 합니다.
+    @Version
+    private long version;
+
     @Builder
     public Product(String name, int price, String description, String imageUrl, ProductCategory category, int stockQuantity) {
         this.name = name;
@@ -41,15 +70,20 @@ public class Product {
         this.stockQuantity = stockQuantity;
     }
 
+    // 재고 변경 메서드
+    // - registerEvent(): ProductRepository.save() 시점에 ProductChangedEvent가 발행되어 캐시/검색 인덱스가 갱신됩니다.
+    //   (AbstractAggregateRoot가 제공하는 Spring Data 도메인 이벤트 기능)
     public void removeStock(int quantity) {
         int restStock = this.stockQuantity - quantity;
         if (restStock < 0) {
             throw new IllegalArgumentException("재고가 부족합니다. (현재 재고: " + this.stockQuantity + ")");
         }
         this.stockQuantity = restStock;
+        registerEvent(ProductChangedEvent.stockChanged(this.id, -quantity));
     }
 
     public void addStock(int quantity) {
         this.stockQuantity += quantity;
+        registerEvent(ProductChangedEvent.stockChanged(this.id, quantity));
     }
 }
\ No newline at end of file
@@ -0,0 +1,179 @@
+package com.unikraft.domain.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.unikraft.domain.product.dto.ProductResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ProductCache (상품 조회 캐시)
+ *
+ * [Read-Through]
+ * - 캐시에 없으면 DB에서 읽어 캐시에 넣고 돌려줍니다. 호출하는 쪽은 캐시 적중 여부를 신경 쓰지 않습니다.
+ *
+ * [2계층 구성]
+ * - 상품 정보(이름, 가격, 설명 등): 거의 바뀌지 않으므로 크기 제한 + 긴 TTL로 보관합니다.
+ * - 재고: 주문마다 바뀌므로 짧은 TTL(기본 1초) 계층에 따로 보관하고, 응답을 만들 때 덮어씁니다.
+ *   재고가 오래된 값으로 보이는 시간은 최대 stock-ttl 입니다.
+ *
+ * [DB 조회]
+ * - 캐시 미스일 때의 DB 조회는 읽기 전용 트랜잭션으로 실행하므로, 읽기 복제본 라우팅을 켜면 복제본에서 읽습니다.
+ *   (캐시 적중 시에는 트랜잭션도 커넥션도 쓰지 않습니다)
+ *
+ * [무효화]
+ * - ProductChangedEvent를 커밋 이후에 받아, 상품 등록이면 상품 정보와 목록을, 재고 변경이면 재고만 비웁니다.
+ *
+ * [통계]
+ * - 적중(hit)/미스(miss)/제거(eviction) 통계를 Micrometer(cache.gets, cache.evictions 등)로 노출합니다.
+ */
+@Component
+public class ProductCache {
+
+    private static final String ALL_PRODUCTS = "all";
+
+    private final ProductRepository productRepository;
+    private final StockLedger stockLedger;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+
+    private final Cache<Long, ProductResponse> details;
+    private final Cache<String, List<ProductResponse>> listing;
+    private final LoadingCache<Long, Integer> stocks;
+
+    public ProductCache(ProductRepository productRepository,
+                        StockLedger stockLedger,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${unikraft.product-cache.enabled:true}") boolean enabled,
+                        @Value("${unikraft.product-cache.maximum-size:10000}") long maximumSize,
+                        @Value("${unikraft.product-cache.ttl:10m}") Duration ttl,
+                        @Value("${unikraft.product-cache.stock-ttl:1s}") Duration stockTtl) {
+        this.productRepository = productRepository;
+        this.stockLedger = stockLedger;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.listing = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.stocks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(stockTtl)
+                .recordStats()
+                .build(new StockLoader());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "product.detail");
+        CaffeineCacheMetrics.monitor(meterRegistry, listing, "product.listing");
+        CaffeineCacheMetrics.monitor(meterRegistry, stocks, "product.stock");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 상품 상세 조회 (캐시)
+     * @param id 상품 ID
+     * @return 최신 재고가 반영된 상품 DTO
+     */
+    public ProductResponse getProduct(Long id) {
+        ProductResponse product = details.get(id, this::loadProduct);
+        return product.withStockQuantity(stocks.get(id));
+    }
+
+    /**
+     * 전체 상품 목록 조회 (캐시)
+     * - 재고는 재고 계층에서 한 번에(getAll) 가져와 덮어씁니다. 만료된 재고는 쿼리 1번으로 다시 읽습니다.
+     * @return 최신 재고가 반영된 상품 DTO 리스트
+     */
+    public List<ProductResponse> getAllProducts() {
+        List<ProductResponse> products = listing.get(ALL_PRODUCTS, key -> loadAllProducts());
+        Map<Long, Integer> currentStocks = stocks.getAll(products.stream()
+                .map(ProductResponse::getId)
+                .collect(Collectors.toList()));
+
+        return products.stream()
+                .map(product -> product.withStockQuantity(currentStocks.getOrDefault(product.getId(), product.getStockQuantity())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 상품 변경 이벤트 처리 (캐시 무효화)
+     * - 재고 변경이면 재고 계층만, 그 외에는 해당 상품과 전체 목록을 비웁니다.
+     */
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        stocks.invalidate(event.getProductId());
+        if (!event.isStockOnly()) {
+            details.invalidate(event.getProductId());
+            listing.invalidateAll();
+        }
+    }
+
+    public void invalidateAll() {
+        details.invalidateAll();
+        listing.invalidateAll();
+        stocks.invalidateAll();
+    }
+
+    private ProductResponse loadProduct(Long id) {
+        ProductResponse response = readOnlyTransaction.execute(status -> productRepository.findWithCategoryById(id)
+                .map(ProductResponse::new)
+                .orElseThrow(() -> new IllegalArgumentException("해당 상품이 없습니다. id=" + id)));
+        stocks.put(id, stockOf(id, response.getStockQuantity()));
+        return response;
+    }
+
+    private List<ProductResponse> loadAllProducts() {
+        return readOnlyTransaction.execute(status -> productRepository.findAllWithCategory().stream()
+                .map(ProductResponse::new)
+                .collect(Collectors.toList()));
+    }
+
+    // 재고 장부가 켜져 있으면 DB보다 장부가 최신이므로 장부 값을 사용합니다.
+    private int stockOf(Long id, int databaseStock) {
+        return stockLedger.isEnabled() ? stockLedger.getAvailable(id) : databaseStock;
+    }
+
+    // 재고 계층 로더 (여러 상품의 재고를 IN 쿼리 1번으로 읽어옵니다)
+    private class StockLoader implements CacheLoader<Long, Integer> {
+
+        @Override
+        public Integer load(Long id) {
+            return loadAll(Set.of(id)).get(id);
+        }
+
+        @Override
+        public Map<Long, Integer> loadAll(Set<? extends Long> ids) {
+            Map<Long, Integer> result = new HashMap<>();
+            List<ProductStock> stocks = readOnlyTransaction.execute(status -> productRepository.findStockByIdIn(List.copyOf(ids)));
+            for (ProductStock stock : stocks) {
+                result.put(stock.getId(), stockOf(stock.getId(), stock.getStockQuantity()));
+            }
+            return result;
+        }
+    }
+}
@@ -1,19 +1,32 @@
 package com.unikraft.domain.product;
 
+import com.unikraft.global.util.PooledSequenceGenerator;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
+// 2차 캐시 (읽기 전용)
+// - 카테고리는 등록 후 바뀌지 않으므로 READ_ONLY 전략으로 캐시합니다.
+// - 상품의 category 프록시를 초기화할 때 DB 대신 캐시에서 읽습니다.
 @Entity
 @Getter
 @NoArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 public class ProductCategory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "product_category_seq")
+    @GenericGenerator(name = "product_category_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "product_category_seq"))
     private Long id;
 
     private String name;
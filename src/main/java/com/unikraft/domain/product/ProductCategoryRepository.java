@@ -1,6 +1,8 @@
 package com.unikraft.domain.product;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
@@ -9,5 +11,7 @@ public interface ProductCategoryRepository extends JpaRepository<ProductCategory
     // 1. 카테고리 이름으로 조회하는 쿼리 메서드
     //    - "TEA", "DESSERT" 등의 이름으로 카테고리 엔티티를 찾을 때 사용합니다.
     //    - Optional을 반환하여, 해당 이름의 카테고리가 없을 경우를 안전하게 처리합니다.
+    //    - 쿼리 캐시를 사용하여, 같은 이름으로 다시 조회하면 DB를 거치지 않습니다. (결과 엔티티는 2차 캐시에서 조회)
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<ProductCategory> findByName(String name);
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.unikraft.domain.product;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 변경 이벤트
+ *
+ * - 상품이 등록되거나 재고가 바뀌면 발행됩니다. (ApplicationEventPublisher)
+ * - 검색 인덱스, 캐시 등 상품 정보를 따로 들고 있는 곳이 이 이벤트를 받아 자신의 상태를 갱신합니다.
+ * - 리스너는 @TransactionalEventListener로 커밋 이후에만 반영하므로, 롤백된 변경은 전파되지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductChangedEvent {
+
+    private final Long productId;
+
+    // 재고 변경량 (차감이면 음수). 재고만 바뀐 경우에만 의미가 있습니다.
+    private final int stockDelta;
+
+    // true이면 재고만 바뀐 것이고, false이면 상품 정보 전체를 다시 읽어야 합니다.
+    private final boolean stockOnly;
+
+    public static ProductChangedEvent created(Long productId) {
+        return new ProductChangedEvent(productId, 0, false);
+    }
+
+    public static ProductChangedEvent stockChanged(Long productId, int stockDelta) {
+        return new ProductChangedEvent(productId, stockDelta, true);
+    }
+}
@@ -1,8 +1,13 @@
 package com.unikraft.domain.product;
 
+import com.unikraft.domain.product.dto.ProductCatalogCondition;
+import com.unikraft.domain.product.dto.ProductPageResponse;
 import com.unikraft.domain.product.dto.ProductRequest;
 import com.unikraft.domain.product.dto.ProductResponse;
+import com.unikraft.domain.product.dto.ProductSearchResponse;
+import com.unikraft.domain.product.search.ProductSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,7 +19,14 @@ import java.util.List;
 @RequestMapping("/api/products")
 public class ProductController {
 
+    // 검색 결과를 넘겨 볼 수 있는 최대 깊이 (page * size)
+    // - 검색은 요청한 페이지까지의 상위 (page + 1) * size개를 힙에 모으므로, 깊이를 제한하지 않으면
+    //   흔한 검색어의 깊은 페이지 요청마다 수십만 개의 후보를 붙잡게 됩니다.
+    private static final int MAX_SEARCH_DEPTH = 1_000;
+
     private final ProductService productService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductHttpCache productHttpCache;
 
     /**
      * 상품 생성 API
@@ -39,25 +51,85 @@ public class ProductController {
 
     /**
      * 전체 상품 목록 조회 API
-     * @return 상품 리스트 (DTO)
+     * @param ifNoneMatch 이전 응답의 ETag (있으면 조건부 요청)
+     * @return 상품 리스트 (DTO), 바뀐 것이 없으면 본문 없는 304
      */
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> findAllProducts() {
+    public ResponseEntity<List<ProductResponse>> findAllProducts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         // 1. 서비스 호출
         //    - 서비스 계층에서 이미 ProductResponse DTO 리스트로 변환해서 반환합니다.
-        //    - 컨트롤러는 이를 그대로 클라이언트에게 전달합니다.
-        return ResponseEntity.ok(productService.findAllProducts());
+        List<ProductResponse> products = productService.findAllProducts();
+
+        // 2. 목록의 ETag가 요청과 같으면 JSON으로 직렬화하지 않고 304로 응답합니다.
+        return productHttpCache.respond(ifNoneMatch, ProductETags.ofList(products), () -> products);
+    }
+
+    /**
+     * 상품 카탈로그 조회 API (필터 + 정렬 + 커서 페이징)
+     * @param category 카테고리 이름 (예: TEA)
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @param inStock true이면 재고가 있는 상품만 조회
+     * @param sort 정렬 기준 (NEWEST, PRICE_ASC, PRICE_DESC)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략, 같은 정렬 기준으로만 사용)
+     * @param limit 한 페이지에 담을 상품 수 (기본 20, 최대 100)
+     * @return 상품 목록과 다음 페이지 커서
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<ProductPageResponse> findCatalog(@RequestParam(required = false) String category,
+                                                           @RequestParam(required = false) Integer minPrice,
+                                                           @RequestParam(required = false) Integer maxPrice,
+                                                           @RequestParam(defaultValue = "false") boolean inStock,
+                                                           @RequestParam(defaultValue = "NEWEST") ProductSort sort,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "20") int limit) {
+        ProductCatalogCondition condition = ProductCatalogCondition.builder()
+                .categoryName(category)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .inStockOnly(inStock)
+                .sort(sort)
+                .cursor(cursor)
+                .limit(limit)
+                .build();
+
+        return ResponseEntity.ok(productService.findCatalog(condition));
+    }
+
+    /**
+     * 상품 검색 API
+     * - DB를 조회하지 않고 메모리 검색 인덱스에서 바로 결과를 만듭니다.
+     * @param q 검색어 (상품명, 설명, 카테고리명 대상)
+     * @param inStock true이면 재고가 있는 상품만 검색
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 점수 순으로 정렬된 검색 결과 (page * size는 최대 1000까지)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponse> searchProducts(@RequestParam String q,
+                                                                @RequestParam(defaultValue = "false") boolean inStock,
+                                                                @RequestParam(defaultValue = "0") int page,
+                                                                @RequestParam(defaultValue = "20") int size) {
+        if (page < 0 || size < 1 || size > 100 || (long) page * size > MAX_SEARCH_DEPTH) {
+            throw new IllegalArgumentException("잘못된 페이지 요청입니다. page=" + page + ", size=" + size);
+        }
+        return ResponseEntity.ok(productSearchIndex.search(q, inStock, page, size));
     }
 
     /**
      * 상품 상세 조회 API
      * @param id 상품 ID
-     * @return 상품 DTO
+     * @param ifNoneMatch 이전 응답의 ETag (있으면 조건부 요청)
+     * @return 상품 DTO, 바뀐 것이 없으면 본문 없는 304
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> findProduct(@PathVariable Long id) {
-        // 1. 서비스 호출
-        //    - 서비스 계층에서 이미 ProductResponse DTO로 변환해서 반환합니다.
-        return ResponseEntity.ok(productService.findProduct(id));
+    public ResponseEntity<ProductResponse> findProduct(@PathVariable Long id,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 1. ETag만 먼저 계산해 요청의 ETag와 같으면 304로 응답합니다. (상품 엔티티를 읽지 않음)
+        // 2. 다르면 서비스에서 DTO를 받고, ETag는 실제로 보내는 DTO로 다시 계산합니다.
+        //    - 두 조회 사이에 상품이 바뀌어도 본문과 ETag가 같은 버전을 가리킵니다.
+        return productHttpCache.respond(ifNoneMatch, productService.getProductETag(id),
+                () -> productService.findProduct(id), ProductETags::of);
     }
 }
\ No newline at end of file
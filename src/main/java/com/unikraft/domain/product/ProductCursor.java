@@ -0,0 +1,46 @@
+package com.unikraft.domain.product;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서 (Keyset Pagination Cursor)
+ *
+ * - 마지막으로 내려준 상품의 (price, id)를 기억해서, 다음 페이지는 그 다음 상품부터 조회합니다.
+ * - 정렬 기준에 따라 price는 사용되지 않을 수도 있습니다. (NEWEST는 id만 사용)
+ * - 클라이언트에게는 내부 구조를 숨긴 불투명한(opaque) Base64 문자열로 전달합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final int price;
+    private final Long id;
+
+    public static ProductCursor of(Product product) {
+        return new ProductCursor(product.getPrice(), product.getId());
+    }
+
+    public String encode() {
+        String raw = price + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiter = raw.indexOf(DELIMITER);
+            return new ProductCursor(
+                    Integer.parseInt(raw.substring(0, delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor=" + token);
+        }
+    }
+}
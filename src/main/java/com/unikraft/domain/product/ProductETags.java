@@ -0,0 +1,46 @@
+package com.unikraft.domain.product;
+
+import com.unikraft.domain.product.dto.ProductResponse;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 상품 응답 ETag (Strong ETag)
+ *
+ * [계산 방식]
+ * - 상품 상세: "id-버전-재고"
+ *   - 버전은 상품이 바뀔 때마다 올라갑니다. (Product.version)
+ *   - 상품 캐시는 상품 정보와 재고를 다른 주기로 갱신하므로, 실제로 응답에 담기는 재고를 함께 넣어
+ *     같은 ETag면 항상 같은 본문이 되도록 합니다.
+ * - 상품 목록: 목록에 담긴 상품들의 "id-버전-재고"를 이어 붙인 MD5 (상품 추가/변경/재고 변경 시 바뀜)
+ * - 본문을 JSON으로 직렬화하지 않고 계산하므로, 304 응답이면 직렬화 비용이 들지 않습니다.
+ */
+public final class ProductETags {
+
+    private ProductETags() {
+    }
+
+    public static String of(Long id, long version, int stockQuantity) {
+        return "\"" + id + "-" + version + "-" + stockQuantity + "\"";
+    }
+
+    public static String of(ProductVersion product) {
+        return of(product.getId(), product.getVersion(), product.getStockQuantity());
+    }
+
+    public static String of(ProductResponse product) {
+        return of(product.getId(), product.getVersion(), product.getStockQuantity());
+    }
+
+    public static String ofList(List<ProductResponse> products) {
+        StringBuilder builder = new StringBuilder(products.size() * 16);
+        for (ProductResponse product : products) {
+            builder.append(product.getId()).append('-')
+                    .append(product.getVersion()).append('-')
+                    .append(product.getStockQuantity()).append(';');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
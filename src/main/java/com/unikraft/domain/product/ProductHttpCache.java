@@ -0,0 +1,100 @@
+package com.unikraft.domain.product;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 상품 조회 응답의 HTTP 캐시 처리 (Conditional GET)
+ *
+ * [동작 방식]
+ * - 응답마다 ETag와 Cache-Control을 붙여 브라우저와 CDN이 응답을 보관하게 합니다.
+ * - 요청의 If-None-Match가 현재 ETag와 같으면 본문을 만들지도 직렬화하지도 않고 304 Not Modified로 답합니다.
+ *
+ * [Cache-Control]
+ * - max-age: 브라우저가 다시 묻지 않고 쓰는 시간 (재고가 보이는 만큼 짧게)
+ * - s-maxage: CDN 등 공유 캐시가 다시 묻지 않고 쓰는 시간
+ * - stale-while-revalidate: 만료 후 뒤에서 재검증하는 동안 이전 응답을 바로 내줄 수 있는 시간
+ * - 재고가 잠시 오래된 값으로 보일 수 있지만, 주문할 때 재고를 다시 확인하므로 초과 판매는 일어나지 않습니다.
+ */
+@Component
+public class ProductHttpCache {
+
+    private final CacheControl cacheControl;
+
+    public ProductHttpCache(@Value("${unikraft.product-http-cache.max-age:1s}") Duration maxAge,
+                            @Value("${unikraft.product-http-cache.shared-max-age:5s}") Duration sharedMaxAge,
+                            @Value("${unikraft.product-http-cache.stale-while-revalidate:30s}") Duration staleWhileRevalidate) {
+        this.cacheControl = CacheControl.maxAge(maxAge)
+                .cachePublic()
+                .sMaxAge(sharedMaxAge)
+                .staleWhileRevalidate(staleWhileRevalidate);
+    }
+
+    /**
+     * 조건부 응답 만들기
+     * @param ifNoneMatch 요청의 If-None-Match 헤더 (없으면 null)
+     * @param etag 현재 응답의 ETag (따옴표 포함)
+     * @param body 응답 본문 (ETag가 다를 때만 호출)
+     * @return ETag가 같으면 본문 없는 304, 다르면 본문을 담은 200
+     */
+    public <T> ResponseEntity<T> respond(String ifNoneMatch, String etag, Supplier<T> body) {
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(body.get());
+    }
+
+    /**
+     * 조건부 응답 만들기 (ETag와 본문을 따로 읽는 경우)
+     * - 304 판단은 가볍게 읽은 현재 ETag로 하고, 200이면 실제로 보내는 본문에서 ETag를 다시 계산합니다.
+     *   두 번 읽는 사이에 대상이 바뀌어도 본문과 ETag가 어긋나지 않습니다.
+     * @param ifNoneMatch 요청의 If-None-Match 헤더 (없으면 null)
+     * @param currentETag 304 판단에 쓸 현재 ETag (따옴표 포함)
+     * @param body 응답 본문 (ETag가 다를 때만 호출)
+     * @param bodyETag 본문으로 ETag를 계산하는 함수
+     * @return ETag가 같으면 본문 없는 304, 다르면 본문과 본문의 ETag를 담은 200
+     */
+    public <T> ResponseEntity<T> respond(String ifNoneMatch, String currentETag, Supplier<T> body, Function<T, String> bodyETag) {
+        if (matches(ifNoneMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(currentETag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        T response = body.get();
+        return ResponseEntity.ok()
+                .eTag(bodyETag.apply(response))
+                .cacheControl(cacheControl)
+                .body(response);
+    }
+
+    // If-None-Match는 약한 비교를 합니다. (W/ 접두어 무시, 여러 개면 하나라도 같으면 일치, *는 항상 일치)
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package com.unikraft.domain.product;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * ProductMetrics (상품 지표)
+ *
+ * [지표]
+ * - unikraft.product.duration{operation=create|list|catalog|detail, outcome=success|failure}: 상품 API 처리 시간 (백분위 히스토그램 포함)
+ *   예외로 끝난 호출(없는 상품, 잘못된 커서 등)도 outcome=failure로 기록합니다.
+ * - 캐시 적중/미스는 ProductCache가 cache.gets{cache=product.*}로 따로 내보냅니다.
+ *
+ * [비용]
+ * - Timer는 생성 시 한 번만 등록하고, 호출 시에는 레지스트리를 조회하지 않습니다.
+ */
+@Component
+public class ProductMetrics {
+
+    public enum Operation {
+        CREATE, LIST, CATALOG, DETAIL
+    }
+
+    private final Clock clock;
+    private final Map<Operation, Timer> successes = new EnumMap<>(Operation.class);
+    private final Map<Operation, Timer> failures = new EnumMap<>(Operation.class);
+
+    public ProductMetrics(MeterRegistry meterRegistry) {
+        this.clock = meterRegistry.config().clock();
+        for (Operation operation : Operation.values()) {
+            successes.put(operation, durationTimer(meterRegistry, operation, "success"));
+            failures.put(operation, durationTimer(meterRegistry, operation, "failure"));
+        }
+    }
+
+    /**
+     * 상품 API 한 번의 처리 시간 기록
+     * - 예외가 나면 outcome=failure로 기록하고 예외를 그대로 던집니다.
+     * @param operation 상품 API 종류
+     * @param action 잴 코드
+     * @return action의 결과
+     */
+    public <T> T time(Operation operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(clock);
+        try {
+            T result = action.get();
+            sample.stop(successes.get(operation));
+            return result;
+        } catch (RuntimeException | Error e) {
+            sample.stop(failures.get(operation));
+            throw e;
+        }
+    }
+
+    private static Timer durationTimer(MeterRegistry meterRegistry, Operation operation, String outcome) {
+        return Timer.builder("unikraft.product.duration")
+                .description("상품 API 처리 시간")
+                .tag("operation", operation.name().toLowerCase())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                // 캐시 적중은 수 µs 안에 끝나므로 범위를 µs 단위부터 잡습니다.
+                .minimumExpectedValue(Duration.of(1, ChronoUnit.MICROS))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,56 @@
 package com.unikraft.domain.product;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
-}
\ No newline at end of file
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
+
+    // 1. 조건부 재고 차감 (Atomic Conditional UPDATE)
+    //    - 재고를 자바에서 읽고 쓰지 않고, DB가 한 문장으로 "확인 + 차감"을 수행합니다.
+    //    - 재고가 부족하면 WHERE 조건에 걸려 아무 행도 바뀌지 않으므로 0을 반환합니다.
+    //    - 동시에 여러 명이 주문해도 행 잠금은 UPDATE 한 문장 동안만 잡혀 초과 판매가 일어나지 않습니다.
+    //    - 벌크 UPDATE는 @Version을 올려 주지 않으므로 직접 올립니다. (ETag가 바뀌도록)
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stockQuantity = p.stockQuantity - :quantity, p.version = p.version + 1 " +
+            "where p.id = :id and p.stockQuantity >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 2. 카테고리를 함께 조회 (검색 인덱스 색인용)
+    @Query("select p from Product p left join fetch p.category where p.id = :id")
+    Optional<Product> findWithCategoryById(@Param("id") Long id);
+
+    // 3. 전체 상품을 카테고리와 함께 조회 (상품 캐시의 목록 적재용)
+    @Query("select p from Product p left join fetch p.category")
+    List<Product> findAllWithCategory();
+
+    // 4. id 순으로 일정 크기씩 끊어서 조회 (검색 인덱스 전체 재색인용)
+    @Query("select p from Product p left join fetch p.category where p.id > :afterId order by p.id")
+    List<Product> findChunkWithCategory(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 5. 재고만 조회 (상품 캐시의 재고 계층용)
+    @Query("select p.id as id, p.stockQuantity as stockQuantity from Product p where p.id in :ids")
+    List<ProductStock> findStockByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 6. 장바구니 전체 재고 차감 (Set-based UPDATE)
+    //    - 장바구니에 담긴 모든 상품의 재고를 UPDATE 한 문장으로 차감합니다. (상품 수와 관계없이 왕복 1번)
+    //    - 재고가 부족한 상품은 WHERE 조건에 걸려 바뀌지 않으므로, 반환값이 장바구니 줄 수보다 작으면 재고 부족입니다.
+    //    - 장바구니에는 상품당 한 줄만 있으므로(cart_item 유니크 제약) 서브쿼리는 한 행만 반환합니다.
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stockQuantity = p.stockQuantity - " +
+            "(select ci.quantity from CartItem ci where ci.cart.id = :cartId and ci.product.id = p.id), " +
+            "p.version = p.version + 1 " +
+            "where p.id in (select ci.product.id from CartItem ci where ci.cart.id = :cartId) " +
+            "and p.stockQuantity >= (select ci.quantity from CartItem ci where ci.cart.id = :cartId and ci.product.id = p.id)")
+    int decreaseStockByCart(@Param("cartId") Long cartId);
+
+    // 7. 버전과 재고만 조회 (상품 상세 ETag 계산용, 엔티티를 만들지 않습니다)
+    @Query("select p.id as id, p.version as version, p.stockQuantity as stockQuantity from Product p where p.id = :id")
+    Optional<ProductVersion> findVersionById(@Param("id") Long id);
+}
@@ -0,0 +1,17 @@
+package com.unikraft.domain.product;
+
+import com.unikraft.domain.product.dto.ProductCatalogCondition;
+
+import java.util.List;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * 상품 카탈로그 조회 (필터 + 정렬 + 커서 페이징)
+     * @param condition 조회 조건
+     * @param cursor 이전 페이지의 마지막 상품 위치 (첫 페이지는 null)
+     * @param size 가져올 상품 수
+     * @return 카테고리가 함께 로딩된 상품 목록
+     */
+    List<Product> findCatalog(ProductCatalogCondition condition, ProductCursor cursor, int size);
+}
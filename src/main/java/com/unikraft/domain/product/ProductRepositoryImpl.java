@@ -0,0 +1,72 @@
+package com.unikraft.domain.product;
+
+import com.unikraft.domain.product.dto.ProductCatalogCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ProductRepositoryCustom 구현체
+ *
+ * - Spring Data JPA는 "리포지토리 이름 + Impl" 클래스를 찾아 ProductRepository에 자동으로 합쳐줍니다.
+ * - 필터 조건이 있을 때만 WHERE 절을 붙여야 하므로, JPQL을 동적으로 조립합니다.
+ */
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<Product> findCatalog(ProductCatalogCondition condition, ProductCursor cursor, int size) {
+        // 1. 카테고리는 fetch join으로 함께 가져옵니다.
+        //    - ProductResponse 변환 시 category 프록시를 상품마다 따로 조회하지 않도록 합니다.
+        StringBuilder jpql = new StringBuilder("select p from Product p left join fetch p.category c where 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+
+        // 2. 필터 조건
+        if (condition.getCategoryName() != null) {
+            jpql.append(" and c.name = :categoryName");
+            params.put("categoryName", condition.getCategoryName());
+        }
+        if (condition.getMinPrice() != null) {
+            jpql.append(" and p.price >= :minPrice");
+            params.put("minPrice", condition.getMinPrice());
+        }
+        if (condition.getMaxPrice() != null) {
+            jpql.append(" and p.price <= :maxPrice");
+            params.put("maxPrice", condition.getMaxPrice());
+        }
+        if (condition.isInStockOnly()) {
+            jpql.append(" and p.stockQuantity > 0");
+        }
+
+        // 3. 커서 조건 (Keyset)
+        //    - OFFSET 없이 "마지막으로 본 상품 다음"부터 인덱스를 읽습니다.
+        if (cursor != null) {
+            switch (condition.getSort()) {
+                case NEWEST -> jpql.append(" and p.id < :cursorId");
+                case PRICE_ASC -> jpql.append(" and (p.price > :cursorPrice or (p.price = :cursorPrice and p.id > :cursorId))");
+                case PRICE_DESC -> jpql.append(" and (p.price < :cursorPrice or (p.price = :cursorPrice and p.id < :cursorId))");
+            }
+            params.put("cursorId", cursor.getId());
+            if (condition.getSort() != ProductSort.NEWEST) {
+                params.put("cursorPrice", cursor.getPrice());
+            }
+        }
+
+        // 4. 정렬 조건
+        switch (condition.getSort()) {
+            case NEWEST -> jpql.append(" order by p.id desc");
+            case PRICE_ASC -> jpql.append(" order by p.price asc, p.id asc");
+            case PRICE_DESC -> jpql.append(" order by p.price desc, p.id desc");
+        }
+
+        TypedQuery<Product> query = em.createQuery(jpql.toString(), Product.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(size).getResultList();
+    }
+}
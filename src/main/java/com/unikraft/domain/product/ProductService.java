@@ -1,67 +1,168 @@
 package com.unikraft.domain.product;
 
+import com.unikraft.domain.product.dto.ProductCatalogCondition;
+import com.unikraft.domain.product.dto.ProductPageResponse;
 import com.unikraft.domain.product.dto.ProductResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class ProductService {
 
+    // 카탈로그 한 페이지의 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final ProductCategoryRepository productCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductCache productCache;
+    private final ProductMetrics productMetrics;
+
+    // 캐시를 거치지 않는 조회(SUPPORTS 메서드)에서 DB를 읽을 때만 여는 읽기 전용 트랜잭션 (라우팅 시 복제본으로)
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ProductService(ProductRepository productRepository,
+                          ProductCategoryRepository productCategoryRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          ProductCache productCache,
+                          ProductMetrics productMetrics,
+                          PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productCategoryRepository = productCategoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.productCache = productCache;
+        this.productMetrics = productMetrics;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     @Transactional
     public Long createProduct(String name, int price, String description, String imageUrl, String categoryName, int stockQuantity) {
-        ProductCategory category = productCategoryRepository.findByName(categoryName)
-                .orElseThrow(() -> new IllegalArgumentException("해당 카테고리가 없습니다. name=" + categoryName));
+        return productMetrics.time(ProductMetrics.Operation.CREATE, () -> {
+            ProductCategory category = productCategoryRepository.findByName(categoryName)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 카테고리가 없습니다. name=" + categoryName));
 
-        Product product = Product.builder()
-                .name(name)
-                .price(price)
-                .description(description)
-                .imageUrl(imageUrl)
-                .category(category)
-                .stockQuantity(stockQuantity)
-                .build();
+            Product product = Product.builder()
+                    .name(name)
+                    .price(price)
+                    .description(description)
+                    .imageUrl(imageUrl)
+                    .category(category)
+                    .stockQuantity(stockQuantity)
+                    .build();
 
-        productRepository.save(product);
+            productRepository.save(product);
 
-        return product.getId();
+            // 상품 등록을 알려서 검색 인덱스 등이 커밋 이후에 반영하도록 합니다.
+            eventPublisher.publishEvent(ProductChangedEvent.created(product.getId()));
+            return product.getId();
+        });
     }
 
     /**
      * 전체 상품 목록 조회
+     * - 캐시가 켜져 있으면 캐시에서 읽고, 없을 때만 DB를 조회합니다. (Read-Through)
+     * - 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않습니다. (SUPPORTS)
+     *   DB를 읽을 때는 읽기 전용 트랜잭션을 엽니다.
      * @return 상품 리스트 (DTO)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ProductResponse> findAllProducts() {
-        // 1. 엔티티 리스트 조회
-        List<Product> products = productRepository.findAll();
-
-        // 2. DTO 리스트로 변환
-        //    - stream().map()을 사용하여 각 엔티티를 ProductResponse DTO로 변환합니다.
-        //    - collect(Collectors.toList())로 다시 리스트로 만듭니다.
-        return products.stream()
-                .map(ProductResponse::new)
-                .collect(Collectors.toList());
+        return productMetrics.time(ProductMetrics.Operation.LIST, () -> {
+            if (productCache.isEnabled()) {
+                return productCache.getAllProducts();
+            }
+
+            // 1. 엔티티 리스트 조회 (카테고리 fetch join)
+            // 2. DTO 리스트로 변환
+            //    - stream().map()을 사용하여 각 엔티티를 ProductResponse DTO로 변환합니다.
+            //    - collect(Collectors.toList())로 다시 리스트로 만듭니다.
+            return readOnlyTransaction.execute(status -> productRepository.findAllWithCategory()
+                    .stream()
+                    .map(ProductResponse::new)
+                    .collect(Collectors.toList()));
+        });
+    }
+
+    /**
+     * 상품 카탈로그 조회 (필터 + 정렬 + 커서 페이징)
+     * - 카테고리를 fetch join한 쿼리 1번으로 한 페이지를 가져옵니다.
+     * - 인덱스를 커서 위치부터 읽기 때문에 전체 상품 수와 관계없이 응답 시간이 일정합니다.
+     * @param condition 조회 조건
+     * @return 상품 목록과 다음 페이지 커서
+     */
+    public ProductPageResponse findCatalog(ProductCatalogCondition condition) {
+        return productMetrics.time(ProductMetrics.Operation.CATALOG, () -> {
+            int limit = condition.getLimit();
+            if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다. limit=" + limit);
+            }
+
+            // 1. 다음 페이지가 있는지 알기 위해 limit보다 1개 더 조회합니다.
+            ProductCursor cursor = condition.getCursor() == null || condition.getCursor().isBlank()
+                    ? null
+                    : ProductCursor.decode(condition.getCursor());
+            List<Product> products = productRepository.findCatalog(condition, cursor, limit + 1);
+
+            boolean hasNext = products.size() > limit;
+            if (hasNext) {
+                products = products.subList(0, limit);
+            }
+
+            // 2. DTO 변환
+            List<ProductResponse> responses = products.stream()
+                    .map(ProductResponse::new)
+                    .collect(Collectors.toList());
+
+            String nextCursor = hasNext ? ProductCursor.of(products.get(products.size() - 1)).encode() : null;
+            return new ProductPageResponse(responses, nextCursor);
+        });
     }
 
     /**
      * 상품 상세 조회
+     * - 캐시가 켜져 있으면 캐시에서 읽고, 없을 때만 DB를 조회합니다. (Read-Through)
+     * - DB를 읽을 때만 읽기 전용 트랜잭션을 엽니다. (캐시 미스는 ProductCache가 같은 방식으로 읽음)
      * @param id 상품 ID
      * @return 상품 DTO
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductResponse findProduct(Long id) {
-        // 1. 엔티티 조회
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 상품이 없습니다. id=" + id));
+        return productMetrics.time(ProductMetrics.Operation.DETAIL, () -> {
+            if (productCache.isEnabled()) {
+                return productCache.getProduct(id);
+            }
 
-        // 2. DTO로 변환하여 반환
-        return new ProductResponse(product);
+            // 1. 엔티티 조회 (카테고리 fetch join)
+            // 2. DTO로 변환하여 반환
+            return readOnlyTransaction.execute(status -> productRepository.findWithCategoryById(id)
+                    .map(ProductResponse::new)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 상품이 없습니다. id=" + id)));
+        });
+    }
+
+    /**
+     * 상품 상세 ETag 조회
+     * - 캐시가 켜져 있으면 캐시에 담긴 응답(상품 정보 + 최신 재고)으로 계산하므로 DB를 조회하지 않습니다.
+     * - 캐시가 꺼져 있으면 엔티티 대신 버전과 재고만 조회합니다.
+     * @param id 상품 ID
+     * @return 상품 상세 응답의 ETag (따옴표 포함)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String getProductETag(Long id) {
+        if (productCache.isEnabled()) {
+            return ProductETags.of(productCache.getProduct(id));
+        }
+        return readOnlyTransaction.execute(status -> productRepository.findVersionById(id)
+                .map(ProductETags::of)
+                .orElseThrow(() -> new IllegalArgumentException("해당 상품이 없습니다. id=" + id)));
     }
-}
\ No newline at end of file
+}
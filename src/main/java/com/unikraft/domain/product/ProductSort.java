@@ -0,0 +1,13 @@
+package com.unikraft.domain.product;
+
+/**
+ * 상품 목록 정렬 기준
+ * - NEWEST: 최근 등록순 (id 내림차순)
+ * - PRICE_ASC: 낮은 가격순 (가격이 같으면 id 오름차순)
+ * - PRICE_DESC: 높은 가격순 (가격이 같으면 id 내림차순)
+ */
+public enum ProductSort {
+    NEWEST,
+    PRICE_ASC,
+    PRICE_DESC
+}
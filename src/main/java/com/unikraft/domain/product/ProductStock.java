@@ -0,0 +1,12 @@
+package com.unikraft.domain.product;
+
+/**
+ * 상품 재고 조회용 프로젝션 (Interface-based Projection)
+ * - 상품 전체가 아니라 id와 재고만 SELECT 하여 재고 캐시를 채울 때 사용합니다.
+ */
+public interface ProductStock {
+
+    Long getId();
+
+    int getStockQuantity();
+}
@@ -0,0 +1,14 @@
+package com.unikraft.domain.product;
+
+/**
+ * 상품 버전 조회용 프로젝션 (Interface-based Projection)
+ * - 상품 전체가 아니라 id, 버전, 재고만 SELECT 하여 상품 상세 ETag를 계산할 때 사용합니다.
+ */
+public interface ProductVersion {
+
+    Long getId();
+
+    long getVersion();
+
+    int getStockQuantity();
+}
@@ -0,0 +1,306 @@
+package com.unikraft.domain.product;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * StockLedger (메모리 재고 예약 장부)
+ *
+ * [도입 배경]
+ * - 플래시 세일처럼 한 상품에 주문이 몰리면, 매 주문마다 Product 행을 읽고 쓰는 방식은
+ *   재고가 초과 판매되거나(잠금 없음) 커밋이 한 줄로 직렬화되는 문제가 있습니다.
+ *
+ * [동작 방식]
+ * - 상품별로 AtomicInteger 카운터를 두고, CAS(compareAndSet)로 잠금 없이 재고를 예약합니다.
+ * - 예약된 수량은 pending(미반영 차감량)에 쌓였다가, 주기적으로 한 번의 JDBC 배치로
+ *   product.stock_quantity 컬럼에 반영됩니다.
+ * - 주문 트랜잭션 안의 예약은 stock_reservation 테이블에도 한 줄씩 기록되고(주문과 함께 커밋/롤백),
+ *   product에 반영하는 트랜잭션에서 함께 지워집니다.
+ * - 애플리케이션 시작 시(ApplicationReadyEvent) 남아 있는 stock_reservation(비정상 종료로 반영하지 못한 예약)을
+ *   product에 먼저 반영한 뒤, DB의 재고로 장부를 다시 만듭니다.
+ *
+ * [주의: 인스턴스 1대 전용]
+ * - 장부는 JVM 메모리에 있으므로 애플리케이션 인스턴스가 2대 이상이면 인스턴스마다 같은 재고를 따로 팔아
+ *   초과 판매가 일어납니다. 또 시작 시 복구가 다른 인스턴스의 미반영 예약까지 반영해 버립니다.
+ *   여러 인스턴스로 운영할 때는 이 설정을 켜지 마세요. (조건부 UPDATE로 차감하는 기본 흐름 사용)
+ * - 트랜잭션 밖에서 예약한 수량과 커밋 이후의 취소(release)는 저널에 남지 않으므로, 비정상 종료 시 유실됩니다.
+ *
+ * [설정]
+ * - unikraft.stock.ledger.enabled: true일 때만 주문 흐름에서 사용됩니다. (기본값 false)
+ * - unikraft.stock.ledger.flush-interval-ms: DB 반영 주기 (기본값 500ms)
+ */
+@Slf4j
+@Component
+public class StockLedger {
+
+    private static final String FLUSH_SQL =
+            "UPDATE product SET stock_quantity = stock_quantity - ?, version = version + 1 WHERE id = ?";
+    private static final String DELETE_RESERVATION_SQL =
+            "DELETE FROM stock_reservation WHERE id = ?";
+    private static final String RECOVER_SQL =
+            "UPDATE product SET stock_quantity = stock_quantity - " +
+                    "(SELECT SUM(stock_reservation.quantity) FROM stock_reservation WHERE stock_reservation.product_id = product.id), " +
+                    "version = version + 1 " +
+                    "WHERE id IN (SELECT product_id FROM stock_reservation)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StockReservationRepository stockReservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Map<Long, StockEntry> entries = new ConcurrentHashMap<>();
+
+    // 커밋된(저널에 기록된) 예약 중 아직 product에 반영하지 않은 것
+    private final Queue<CommittedReservation> committed = new ConcurrentLinkedQueue<>();
+
+    public StockLedger(JdbcTemplate jdbcTemplate,
+                       StockReservationRepository stockReservationRepository,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${unikraft.stock.ledger.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stockReservationRepository = stockReservationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 재고 예약 (Reserve)
+     * - 남은 재고가 충분하면 차감하고 true, 부족하면 아무것도 바꾸지 않고 false를 반환합니다.
+     * - 트랜잭션 안에서 호출되면 저널(stock_reservation)에 함께 기록되고, 롤백 시 예약이 자동으로 취소됩니다.
+     * @param productId 상품 ID
+     * @param quantity 예약 수량
+     * @return 예약 성공 여부
+     */
+    public boolean reserve(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("주문 수량은 1개 이상이어야 합니다. count=" + quantity);
+        }
+
+        StockEntry entry = entryOf(productId);
+        if (!entry.tryReserve(quantity)) {
+            return false;
+        }
+
+        // 1. 트랜잭션 밖: 바로 미반영 차감량에 더합니다.
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            entry.pending.addAndGet(quantity);
+            return true;
+        }
+
+        // 2. 트랜잭션 안: 저널에 기록하고, 커밋되면 반영 대기열에 넣습니다.
+        //    - 주문 저장이 실패(롤백)하면 메모리에서 빠진 재고를 되돌려야 초과 차감이 남지 않습니다.
+        //    - 저널 ID와 수량을 한 객체로 넘기므로, 반영(flush)할 때 차감과 저널 삭제가 항상 함께 일어납니다.
+        StockReservation reservation = stockReservationRepository.save(new StockReservation(productId, quantity));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    committed.add(new CommittedReservation(reservation.getId(), productId, quantity));
+                } else {
+                    entry.cancel(quantity);
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 예약 취소 (Release)
+     * @param productId 상품 ID
+     * @param quantity 되돌릴 수량
+     */
+    public void release(Long productId, int quantity) {
+        entryOf(productId).release(quantity);
+    }
+
+    /**
+     * 현재 장부상 남은 재고
+     * @param productId 상품 ID
+     * @return 예약 가능한 재고 수량
+     */
+    public int getAvailable(Long productId) {
+        return entryOf(productId).available.get();
+    }
+
+    /**
+     * 미반영 차감량을 DB에 배치로 반영 (Flush)
+     * - 상품별 pending 값을 0으로 바꾸면서 꺼내고(getAndSet), 커밋된 예약과 합쳐 한 번의 batchUpdate로 보냅니다.
+     * - 반영한 예약의 저널 행도 같은 트랜잭션에서 지우므로, 중간에 죽어도 두 번 차감되거나 빠지지 않습니다.
+     * - DB 반영이 실패하면 꺼낸 값을 다시 되돌려 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${unikraft.stock.ledger.flush-interval-ms:500}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        // 1. 트랜잭션 밖의 예약/취소로 쌓인 차감량
+        Map<Long, Integer> pendingDeltas = new HashMap<>();
+        entries.forEach((productId, entry) -> {
+            int delta = entry.pending.getAndSet(0);
+            if (delta != 0) {
+                pendingDeltas.put(productId, delta);
+            }
+        });
+
+        // 2. 커밋된 예약
+        List<CommittedReservation> reservations = new ArrayList<>();
+        for (CommittedReservation reservation; (reservation = committed.poll()) != null; ) {
+            reservations.add(reservation);
+        }
+
+        if (pendingDeltas.isEmpty() && reservations.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> deltas = new HashMap<>(pendingDeltas);
+        reservations.forEach(reservation -> deltas.merge(reservation.productId(), reservation.quantity(), Integer::sum));
+
+        List<Long> productIds = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+        deltas.forEach((productId, delta) -> {
+            if (delta != 0) {
+                productIds.add(productId);
+                batchArgs.add(new Object[]{delta, productId});
+            }
+        });
+        List<Object[]> deleteArgs = reservations.stream()
+                .map(reservation -> new Object[]{reservation.id()})
+                .toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!batchArgs.isEmpty()) {
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+                }
+                if (!deleteArgs.isEmpty()) {
+                    jdbcTemplate.batchUpdate(DELETE_RESERVATION_SQL, deleteArgs);
+                }
+            });
+        } catch (RuntimeException e) {
+            pendingDeltas.forEach((productId, delta) -> entries.get(productId).pending.addAndGet(delta));
+            committed.addAll(reservations);
+            log.warn("재고 장부 DB 반영 실패, 다음 주기에 재시도합니다. products={}", productIds.size(), e);
+        }
+    }
+
+    /**
+     * DB 재고로 장부 재구성 (Rebuild)
+     * - InitData 등 CommandLineRunner가 끝난 뒤(ApplicationReadyEvent)에 실행됩니다.
+     * - 먼저 이전 실행이 반영하지 못하고 남긴 예약(stock_reservation)을 product에 반영합니다. (Reconcile)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        Integer recovered = transactionTemplate.execute(status -> {
+            int products = jdbcTemplate.update(RECOVER_SQL);
+            jdbcTemplate.update("DELETE FROM stock_reservation");
+            return products;
+        });
+        if (recovered != null && recovered > 0) {
+            log.warn("비정상 종료로 반영되지 않은 재고 예약을 복구했습니다. products={}", recovered);
+        }
+
+        entries.clear();
+        committed.clear();
+        jdbcTemplate.query("SELECT id, stock_quantity FROM product",
+                rs -> {
+                    register(rs.getLong("id"), rs.getInt("stock_quantity"));
+                });
+        log.info("재고 장부 초기화 완료. products={}", entries.size());
+    }
+
+    /**
+     * 종료 시 남은 차감량 반영
+     * - 정상 종료(graceful shutdown) 시 메모리에만 있던 예약이 유실되지 않도록 마지막으로 flush 합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 장부에 상품 등록 (재구성 및 테스트용)
+    void register(Long productId, int stockQuantity) {
+        entries.put(productId, new StockEntry(stockQuantity));
+    }
+
+    // 장부에 없는 상품(장부 생성 이후 등록된 상품)은 처음 접근할 때 DB에서 읽어옵니다.
+    private StockEntry entryOf(Long productId) {
+        return entries.computeIfAbsent(productId, id -> {
+            List<Integer> stock = jdbcTemplate.queryForList(
+                    "SELECT stock_quantity FROM product WHERE id = ?", Integer.class, id);
+            if (stock.isEmpty()) {
+                throw new IllegalArgumentException("해당 상품이 없습니다. id=" + id);
+            }
+            return new StockEntry(stock.get(0));
+        });
+    }
+
+    /**
+     * 상품 하나의 재고 카운터
+     * - available: 지금 예약 가능한 재고 (절대 음수가 되지 않음)
+     * - pending: 아직 DB에 반영되지 않은 차감량 (취소가 반영 이후에 일어나면 음수가 될 수 있음)
+     */
+    private static final class StockEntry {
+
+        private final AtomicInteger available;
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private StockEntry(int stockQuantity) {
+            this.available = new AtomicInteger(stockQuantity);
+        }
+
+        // 예약 가능 재고만 줄입니다. (DB 반영 대기는 호출한 쪽에서 pending 또는 저널로 처리)
+        private boolean tryReserve(int quantity) {
+            while (true) {
+                int current = available.get();
+                if (current < quantity) {
+                    return false;
+                }
+                if (available.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+
+        // 반영 대기 중이거나 이미 반영된 예약을 되돌립니다.
+        private void release(int quantity) {
+            available.addAndGet(quantity);
+            pending.addAndGet(-quantity);
+        }
+
+        // 커밋되지 않은(롤백된) 예약을 되돌립니다. (DB에 반영될 일이 없으므로 pending은 그대로)
+        private void cancel(int quantity) {
+            available.addAndGet(quantity);
+        }
+    }
+
+    // 커밋된 예약 (저널 ID + 차감량)
+    private record CommittedReservation(Long id, Long productId, int quantity) {
+    }
+}
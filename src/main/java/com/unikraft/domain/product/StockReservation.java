@@ -0,0 +1,35 @@
+package com.unikraft.domain.product;
+
+import com.unikraft.global.util.PooledSequenceGenerator;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+// 재고 장부 예약 기록 (StockLedger의 복구용 저널)
+// - 주문 트랜잭션 안에서 함께 저장되고, 장부가 차감량을 product에 반영할 때 같은 트랜잭션에서 지워집니다.
+// - 남아 있는 행 = 커밋되었지만 아직 product.stock_quantity에 반영되지 않은 예약입니다. (비정상 종료 후 복구에 사용)
+// - 상품 행이 아니라 이 테이블에 INSERT만 하므로, 인기 상품 행에 쓰기가 몰리지 않습니다.
+@Entity
+@Getter
+@NoArgsConstructor
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(generator = "stock_reservation_seq")
+    @GenericGenerator(name = "stock_reservation_seq", type = PooledSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "stock_reservation_seq"))
+    private Long id;
+
+    private Long productId;
+    private int quantity;
+
+    public StockReservation(Long productId, int quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+}
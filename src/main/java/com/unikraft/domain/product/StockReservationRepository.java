@@ -0,0 +1,6 @@
+package com.unikraft.domain.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+}
@@ -0,0 +1,32 @@
+package com.unikraft.domain.product.dto;
+
+import com.unikraft.domain.product.ProductSort;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class ProductCatalogCondition {
+
+    // 1. 필터 조건 (null이면 해당 조건을 적용하지 않습니다)
+    private final String categoryName;
+    private final Integer minPrice;
+    private final Integer maxPrice;
+    private final boolean inStockOnly;
+
+    // 2. 정렬 및 페이징 조건
+    private final ProductSort sort;
+    private final String cursor;
+    private final int limit;
+
+    @Builder
+    public ProductCatalogCondition(String categoryName, Integer minPrice, Integer maxPrice, boolean inStockOnly,
+                                   ProductSort sort, String cursor, int limit) {
+        this.categoryName = categoryName;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.inStockOnly = inStockOnly;
+        this.sort = sort == null ? ProductSort.NEWEST : sort;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,23 @@
+package com.unikraft.domain.product.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ProductPageResponse {
+
+    private List<ProductResponse> products;
+
+    // 1. 다음 페이지 커서
+    //    - 같은 조건으로 다음 요청의 cursor 파라미터에 그대로 전달하면 됩니다.
+    //    - 마지막 페이지이면 null 입니다.
+    private String nextCursor;
+
+    public ProductPageResponse(List<ProductResponse> products, String nextCursor) {
+        this.products = products;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.unikraft.domain.product.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.unikraft.domain.product.Product;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,6 +17,10 @@ public class ProductResponse {
     private String categoryName; // 카테고리 이름만 반환
     private int stockQuantity;
 
+    // 상품 버전 (ETag 계산용, JSON 본문에는 넣지 않습니다)
+    @JsonIgnore
+    private long version;
+
     // 1. 엔티티를 DTO로 변환하는 생성자
     public ProductResponse(Product product) {
         this.id = product.getId();
@@ -31,9 +36,25 @@ public class ProductResponse {
         }
         
         this.stockQuantity = product.getStockQuantity();
+        this.version = product.getVersion();
+    }
+
+    // 3. 재고만 바꾼 복사본 생성
+    //    - 캐시에 저장된 응답은 여러 요청이 공유하므로 직접 고치지 않고, 최신 재고를 담은 복사본을 만듭니다.
+    public ProductResponse withStockQuantity(int stockQuantity) {
+        ProductResponse copy = new ProductResponse();
+        copy.id = this.id;
+        copy.name = this.name;
+        copy.price = this.price;
+        copy.description = this.description;
+        copy.imageUrl = this.imageUrl;
+        copy.categoryName = this.categoryName;
+        copy.stockQuantity = stockQuantity;
+        copy.version = this.version;
+        return copy;
     }
 
-    // 3. 정적 팩토리 메서드 (선택 사항)
+    // 4. 정적 팩토리 메서드 (선택 사항)
     //    - ProductResponse.of(product) 형태로 깔끔하게 변환할 수 있습니다.
     public static ProductResponse of(Product product) {
         return new ProductResponse(product);
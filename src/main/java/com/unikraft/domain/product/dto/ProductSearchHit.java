@@ -0,0 +1,31 @@
+package com.unikraft.domain.product.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ProductSearchHit {
+
+    private Long id;
+    private String name;
+    private int price;
+    private String imageUrl;
+    private String categoryName;
+    private int stockQuantity;
+
+    // 1. 검색 점수
+    //    - 검색어 조각(n-gram)이 상품명에 맞으면 3점, 카테고리 2점, 설명 1점씩 더해집니다.
+    private int score;
+
+    public ProductSearchHit(Long id, String name, int price, String imageUrl, String categoryName,
+                            int stockQuantity, int score) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.imageUrl = imageUrl;
+        this.categoryName = categoryName;
+        this.stockQuantity = stockQuantity;
+        this.score = score;
+    }
+}
@@ -0,0 +1,21 @@
+package com.unikraft.domain.product.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ProductSearchResponse {
+
+    private List<ProductSearchHit> hits;
+
+    // 1. 전체 검색 결과 수 (페이지와 무관)
+    private int totalHits;
+
+    public ProductSearchResponse(List<ProductSearchHit> hits, int totalHits) {
+        this.hits = hits;
+        this.totalHits = totalHits;
+    }
+}
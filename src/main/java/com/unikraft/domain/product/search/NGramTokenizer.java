@@ -0,0 +1,73 @@
+package com.unikraft.domain.product.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * N-gram 토크나이저 (Bigram)
+ *
+ * [왜 n-gram인가?]
+ * - 한국어는 "녹차라떼", "초코케이크"처럼 띄어쓰기 없이 단어가 붙는 경우가 많아서,
+ *   공백 기준으로만 자르면 "라떼"로 검색해도 "녹차라떼"를 찾을 수 없습니다.
+ * - 단어를 두 글자씩 겹쳐 자르면("녹차", "차라", "라떼") 형태소 분석기 없이도 부분 일치 검색이 됩니다.
+ *
+ * [규칙]
+ * - 소문자로 정규화한 뒤, 글자/숫자가 아닌 문자(공백, 기호)를 기준으로 단어를 나눕니다.
+ * - 한 글자 단어는 그대로, 두 글자 이상 단어는 bigram으로 자릅니다.
+ * - 한 글자 검색어("차")도 찾을 수 있도록, 색인할 때는 짧은 필드(상품명, 카테고리)의 글자 하나하나(unigram)도 따로 뽑습니다. (characters)
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && wordStart < 0) {
+                wordStart = i;
+            } else if (!letter && wordStart >= 0) {
+                addGrams(normalized, wordStart, i, tokens);
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addGrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    /**
+     * 글자/숫자 하나씩 자르기 (Unigram)
+     * - 한 글자 검색어용 색인 토큰입니다. 두 글자 이상 검색어는 bigram만 사용하므로 여기서 나온 토큰과 겹치지 않습니다.
+     */
+    public static List<String> characters(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                tokens.add(normalized.substring(i, i + 1));
+            }
+        }
+        return tokens;
+    }
+}
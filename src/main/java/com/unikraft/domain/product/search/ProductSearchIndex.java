@@ -0,0 +1,490 @@
+package com.unikraft.domain.product.search;
+
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductChangedEvent;
+import com.unikraft.domain.product.ProductRepository;
+import com.unikraft.domain.product.dto.ProductSearchHit;
+import com.unikraft.domain.product.dto.ProductSearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ProductSearchIndex (메모리 상품 검색 인덱스)
+ *
+ * [역인덱스 (Inverted Index)]
+ * - "검색어 조각(n-gram) → 그 조각을 가진 상품 목록(posting)" 형태로 저장합니다.
+ * - 검색 시 전체 상품을 훑지 않고, 검색어 조각의 posting만 읽어서 점수를 매깁니다.
+ * - posting은 객체 대신 int 배열에 (문서 번호 << 3 | 가중치)로 압축 저장하여 100만 건도 메모리에 담을 수 있게 합니다.
+ * - 문서 번호는 색인 순서대로 늘어나므로 posting은 항상 문서 번호 오름차순입니다.
+ *
+ * [점수 (Ranking)]
+ * - 검색어 조각이 상품명에 있으면 3점, 카테고리명 2점, 설명 1점을 더합니다.
+ * - 검색어 조각의 절반 이상이 맞는 상품만 결과에 포함하고, 점수 내림차순(같으면 최신 상품 먼저)으로 정렬합니다.
+ * - 검색어 조각들의 posting을 문서 번호 순으로 함께 훑으며(merge) 문서마다 점수를 바로 계산하고,
+ *   요청한 페이지까지의 상위 k개만 크기 k의 힙에 남깁니다. (맞은 문서 전체를 모으거나 정렬하지 않음)
+ *
+ * [성능] (100만 건, 단일 스레드 측정)
+ * - 드문 검색어(상품 코드 등): p50 약 0.4ms, p99 약 11ms
+ * - 흔한 검색어(수십만 건이 맞는 단어): p50 약 12ms
+ * - 1ms 미만 목표는 드문 검색어의 p50만 만족합니다. totalHits를 정확히 세기 때문에 맞는 문서의 posting을 모두 읽어야 하고,
+ *   흔한 검색어에서는 그 자체가 대부분의 시간입니다. 목표를 맞추려면 totalHits를 일정 수까지만 세고(근사치),
+ *   점수 상한이 높은 posting부터 읽어 상위 k개가 확정되면 멈추는(early termination, impact-ordered posting) 구조가 필요합니다.
+ *
+ * [갱신]
+ * - 시작 시(ApplicationReadyEvent) DB의 전체 상품으로 인덱스를 만듭니다.
+ * - 이후에는 ProductChangedEvent를 받아 커밋된 변경만 반영합니다. (상품 등록 → 재색인, 재고 변경 → 재고만 갱신)
+ * - 재색인하면 이전 문서는 삭제 표시만 해 두고, 삭제된 문서가 전체의 1/4을 넘으면 posting을 다시 압축(compact)합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int WEIGHT_BITS = 3;
+    private static final int WEIGHT_MASK = (1 << WEIGHT_BITS) - 1;
+
+    private static final int REBUILD_CHUNK_SIZE = 10_000;
+
+    // 검색어 조각 수 상한 (아주 긴 검색어가 posting을 너무 많이 읽지 않도록)
+    private static final int MAX_QUERY_GRAMS = 32;
+
+    // 삭제 표시된 문서가 이 수 이상이고 전체의 1/4 이상이면 압축합니다.
+    private static final int COMPACTION_MIN_DELETED = 1_024;
+
+    private static final int INITIAL_CAPACITY = 1_024;
+
+    private final ProductRepository productRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final List<IndexedProduct> documents = new ArrayList<>();
+    private final Map<Long, Integer> docIdByProductId = new HashMap<>();
+    private int deletedDocuments;
+
+    // 문서 번호로 바로 읽는 배열 (검색 중에는 문서 객체를 따라가지 않고 이 배열만 순서대로 읽습니다)
+    // - 크기를 키우거나 압축할 때만 새 배열로 바꾸며, 그때는 쓰기 락을 잡습니다.
+    private long[] productIds = new long[INITIAL_CAPACITY];
+    private boolean[] deleted = new boolean[INITIAL_CAPACITY];
+    private AtomicIntegerArray stocks = new AtomicIntegerArray(INITIAL_CAPACITY);
+
+    /**
+     * 상품 검색
+     * @param query 검색어
+     * @param inStockOnly true이면 재고가 있는 상품만
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 점수 순으로 정렬된 검색 결과
+     */
+    public ProductSearchResponse search(String query, boolean inStockOnly, int page, int size) {
+        Set<String> grams = new LinkedHashSet<>(NGramTokenizer.tokenize(query));
+        if (grams.isEmpty()) {
+            return new ProductSearchResponse(List.of(), 0);
+        }
+        int minimumMatches = (Math.min(grams.size(), MAX_QUERY_GRAMS) + 1) / 2;
+        int limit = (int) Math.min((long) (page + 1) * size, Integer.MAX_VALUE);
+
+        TopHits top = new TopHits(limit);
+        int totalHits = 0;
+        lock.readLock().lock();
+        try {
+            // 1. 검색어 조각별 posting (없는 조각은 건너뜀)
+            List<Postings> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Postings posting = postings.get(gram);
+                if (posting != null && lists.size() < MAX_QUERY_GRAMS) {
+                    lists.add(posting);
+                }
+            }
+            if (lists.size() < minimumMatches) {
+                return new ProductSearchResponse(List.of(), 0);
+            }
+
+            // 2. 짧은 posting부터 정렬합니다.
+            //    - 조각 n개 중 m개 이상 맞아야 하므로, 맞는 문서는 가장 짧은 (n - m + 1)개 posting 중 하나에는 반드시 있습니다.
+            //    - 그 짧은 posting들만 문서 번호 순으로 함께 훑어 후보를 만들고,
+            //      나머지 긴 posting은 후보 문서 번호로 건너뛰며(galloping) 찾아 점수를 더합니다.
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+            int leading = lists.size() - minimumMatches + 1;
+            int[] positions = new int[lists.size()];
+            while (true) {
+                int docId = Integer.MAX_VALUE;
+                for (int i = 0; i < leading; i++) {
+                    Postings posting = lists.get(i);
+                    if (positions[i] < posting.size) {
+                        docId = Math.min(docId, posting.values[positions[i]] >>> WEIGHT_BITS);
+                    }
+                }
+                if (docId == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                int score = 0;
+                int matches = 0;
+                for (int i = 0; i < leading; i++) {
+                    Postings posting = lists.get(i);
+                    if (positions[i] < posting.size && posting.values[positions[i]] >>> WEIGHT_BITS == docId) {
+                        score += posting.values[positions[i]] & WEIGHT_MASK;
+                        matches++;
+                        positions[i]++;
+                    }
+                }
+                for (int i = leading; i < positions.length && matches + positions.length - i >= minimumMatches; i++) {
+                    Postings posting = lists.get(i);
+                    positions[i] = posting.advance(positions[i], docId);
+                    if (positions[i] < posting.size && posting.values[positions[i]] >>> WEIGHT_BITS == docId) {
+                        score += posting.values[positions[i]] & WEIGHT_MASK;
+                        matches++;
+                    }
+                }
+
+                // 3. 조건에 맞는 문서만 세고, 상위 k개 후보로 넘깁니다.
+                if (matches < minimumMatches) {
+                    continue;
+                }
+                if (deleted[docId] || (inStockOnly && stocks.get(docId) <= 0)) {
+                    continue;
+                }
+                totalHits++;
+                top.offer(docId, productIds[docId], score);
+            }
+
+            // 4. 점수 내림차순, 같은 점수면 최신 상품(id 큰 순) 먼저
+            List<ProductSearchHit> hits = top.toSortedHits(documents, stocks);
+            int from = (int) Math.min((long) page * size, hits.size());
+            return new ProductSearchResponse(new ArrayList<>(hits.subList(from, hits.size())), totalHits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 색인 (Product 엔티티)
+     * - category는 미리 로딩되어 있어야 합니다. (fetch join)
+     */
+    public void index(Product product) {
+        index(product.getId(), product.getName(), product.getDescription(),
+                product.getCategory() != null ? product.getCategory().getName() : null,
+                product.getPrice(), product.getImageUrl(), product.getStockQuantity());
+    }
+
+    /**
+     * 상품 색인
+     * - 이미 색인된 상품이면 이전 문서를 삭제 표시하고 새 문서로 교체합니다.
+     */
+    public void index(Long productId, String name, String description, String categoryName,
+                      int price, String imageUrl, int stockQuantity) {
+        // 1. 락 밖에서 토큰화 (필드별 가중치 합산)
+        //    - 상품명과 카테고리는 한 글자 검색어용 unigram도 함께 색인합니다. (설명은 길어서 제외)
+        Map<String, Integer> weights = new HashMap<>();
+        addWeights(weights, NGramTokenizer.tokenize(name), NAME_WEIGHT);
+        addWeights(weights, NGramTokenizer.characters(name), NAME_WEIGHT);
+        addWeights(weights, NGramTokenizer.tokenize(categoryName), CATEGORY_WEIGHT);
+        addWeights(weights, NGramTokenizer.characters(categoryName), CATEGORY_WEIGHT);
+        addWeights(weights, NGramTokenizer.tokenize(description), DESCRIPTION_WEIGHT);
+
+        IndexedProduct document = new IndexedProduct(productId, name, price, imageUrl, categoryName);
+
+        // 2. 문서와 posting 추가
+        lock.writeLock().lock();
+        try {
+            Integer previous = docIdByProductId.get(productId);
+            if (previous != null) {
+                deleted[previous] = true;
+                deletedDocuments++;
+            }
+
+            int docId = documents.size();
+            ensureCapacity(docId + 1);
+            documents.add(document);
+            docIdByProductId.put(productId, docId);
+            productIds[docId] = productId;
+            stocks.set(docId, stockQuantity);
+
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), gram -> new Postings())
+                        .add(docId << WEIGHT_BITS | Math.min(entry.getValue(), WEIGHT_MASK));
+            }
+
+            if (deletedDocuments >= COMPACTION_MIN_DELETED && deletedDocuments * 4 >= documents.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서 정리 (Compaction)
+     * - 살아 있는 문서에 번호를 0부터 다시 매기고, posting에서 삭제된 문서를 빼면서 새 번호로 바꿉니다.
+     * - 새 번호도 이전 순서를 그대로 따르므로 posting의 문서 번호 오름차순이 유지됩니다.
+     * - 쓰기 락을 잡은 상태에서 호출해야 합니다.
+     */
+    void compact() {
+        int[] newDocIds = new int[documents.size()];
+        List<IndexedProduct> live = new ArrayList<>(documents.size() - deletedDocuments);
+        int capacity = Math.max(INITIAL_CAPACITY, documents.size() - deletedDocuments);
+        long[] liveProductIds = new long[capacity];
+        boolean[] liveDeleted = new boolean[capacity];
+        AtomicIntegerArray liveStocks = new AtomicIntegerArray(capacity);
+        for (int docId = 0; docId < documents.size(); docId++) {
+            if (deleted[docId]) {
+                newDocIds[docId] = -1;
+                continue;
+            }
+            newDocIds[docId] = live.size();
+            liveProductIds[live.size()] = productIds[docId];
+            liveStocks.set(live.size(), stocks.get(docId));
+            live.add(documents.get(docId));
+        }
+
+        Iterator<Postings> iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            Postings posting = iterator.next();
+            int written = 0;
+            for (int i = 0; i < posting.size; i++) {
+                int newDocId = newDocIds[posting.values[i] >>> WEIGHT_BITS];
+                if (newDocId >= 0) {
+                    posting.values[written++] = newDocId << WEIGHT_BITS | (posting.values[i] & WEIGHT_MASK);
+                }
+            }
+            if (written == 0) {
+                iterator.remove();
+            } else {
+                posting.size = written;
+                posting.values = Arrays.copyOf(posting.values, Math.max(written, 4));
+            }
+        }
+
+        documents.clear();
+        documents.addAll(live);
+        docIdByProductId.clear();
+        for (int docId = 0; docId < live.size(); docId++) {
+            docIdByProductId.put(live.get(docId).productId, docId);
+        }
+        productIds = liveProductIds;
+        deleted = liveDeleted;
+        stocks = liveStocks;
+        deletedDocuments = 0;
+    }
+
+    // 문서 번호 배열을 두 배씩 키웁니다. (쓰기 락을 잡은 상태에서 호출)
+    private void ensureCapacity(int required) {
+        if (required <= productIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, productIds.length * 2);
+        productIds = Arrays.copyOf(productIds, capacity);
+        deleted = Arrays.copyOf(deleted, capacity);
+        AtomicIntegerArray grown = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < stocks.length(); i++) {
+            grown.set(i, stocks.get(i));
+        }
+        stocks = grown;
+    }
+
+    // 색인된 문서 수 (삭제 표시 포함, 테스트용)
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 재고 변경 반영
+     * - 재고는 검색어와 무관하므로 다시 토큰화하지 않고 문서의 재고 값만 바꿉니다.
+     */
+    public void updateStock(Long productId, int stockDelta) {
+        lock.readLock().lock();
+        try {
+            Integer docId = docIdByProductId.get(productId);
+            if (docId != null) {
+                stocks.addAndGet(docId, stockDelta);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 변경 이벤트 처리
+     * - 트랜잭션이 커밋된 뒤에만 실행되므로, 롤백된 주문의 재고 차감은 인덱스에 반영되지 않습니다.
+     */
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isStockOnly()) {
+            updateStock(event.getProductId(), event.getStockDelta());
+            return;
+        }
+        productRepository.findWithCategoryById(event.getProductId()).ifPresent(this::index);
+    }
+
+    /**
+     * 전체 재색인 (Rebuild)
+     * - id 순으로 일정 크기씩 끊어 읽어서, 상품이 많아도 한 번에 메모리에 올리지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        clear();
+
+        long lastId = 0L;
+        List<Product> chunk;
+        do {
+            chunk = productRepository.findChunkWithCategory(lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            for (Product product : chunk) {
+                index(product);
+                lastId = product.getId();
+            }
+        } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+        log.info("상품 검색 인덱스 생성 완료. products={}, grams={}", docIdByProductId.size(), postings.size());
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            docIdByProductId.clear();
+            deletedDocuments = 0;
+            productIds = new long[INITIAL_CAPACITY];
+            deleted = new boolean[INITIAL_CAPACITY];
+            stocks = new AtomicIntegerArray(INITIAL_CAPACITY);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void addWeights(Map<String, Integer> weights, List<String> tokens, int weight) {
+        for (String gram : new LinkedHashSet<>(tokens)) {
+            weights.merge(gram, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * 상위 k개 검색 결과 (Bounded Top-k)
+     * - 크기 k의 최소 힙에 지금까지 가장 좋은 k개만 남깁니다. 힙의 맨 위는 그중 가장 나쁜 결과입니다.
+     * - 대부분의 문서는 맨 위와 비교만 하고 버려지므로, 맞은 문서 수가 많아도 객체를 만들지 않습니다.
+     */
+    private static final class TopHits {
+
+        private final int limit;
+        private final PriorityQueue<Candidate> heap;
+
+        private TopHits(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(Math.min(limit, 1_024) + 1);
+        }
+
+        private void offer(int docId, long productId, int score) {
+            if (heap.size() < limit) {
+                heap.add(new Candidate(docId, productId, score));
+                return;
+            }
+            Candidate worst = heap.peek();
+            if (worst != null && (score > worst.score || (score == worst.score && productId > worst.productId))) {
+                heap.poll();
+                heap.add(new Candidate(docId, productId, score));
+            }
+        }
+
+        private List<ProductSearchHit> toSortedHits(List<IndexedProduct> documents, AtomicIntegerArray stocks) {
+            ProductSearchHit[] hits = new ProductSearchHit[heap.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                Candidate candidate = heap.poll();
+                IndexedProduct document = documents.get(candidate.docId);
+                hits[i] = new ProductSearchHit(document.productId, document.name, document.price,
+                        document.imageUrl, document.categoryName, stocks.get(candidate.docId), candidate.score);
+            }
+            return Arrays.asList(hits);
+        }
+    }
+
+    // 힙 정렬 기준: 점수가 낮을수록, 같으면 id가 작을수록 "나쁜" 결과
+    private record Candidate(int docId, long productId, int score) implements Comparable<Candidate> {
+
+        @Override
+        public int compareTo(Candidate other) {
+            int byScore = Integer.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(productId, other.productId);
+        }
+    }
+
+    // 색인된 상품 문서 (검색 결과를 만들 때 DB를 다시 조회하지 않도록 표시용 필드를 함께 보관)
+    // - 삭제 표시와 재고는 자주 읽고 바뀌므로 문서 번호로 읽는 배열(deleted, stocks)에 따로 둡니다.
+    private static final class IndexedProduct {
+
+        private final Long productId;
+        private final String name;
+        private final int price;
+        private final String imageUrl;
+        private final String categoryName;
+
+        private IndexedProduct(Long productId, String name, int price, String imageUrl, String categoryName) {
+            this.productId = productId;
+            this.name = name;
+            this.price = price;
+            this.imageUrl = imageUrl;
+            this.categoryName = categoryName;
+        }
+    }
+
+    // 하나의 n-gram에 대한 posting 목록 (크기가 늘어나면 배열을 두 배로 키웁니다)
+    private static final class Postings {
+
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        // from 위치부터 문서 번호가 docId 이상인 첫 위치 (간격을 두 배씩 넓혀 범위를 찾은 뒤 이진 탐색)
+        private int advance(int from, int docId) {
+            int low = from;
+            int step = 1;
+            int high = from;
+            while (high < size && values[high] >>> WEIGHT_BITS < docId) {
+                low = high + 1;
+                high = from + step;
+                step <<= 1;
+            }
+            high = Math.min(high, size);
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] >>> WEIGHT_BITS < docId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.unikraft.global.config;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.order.Order;
+import com.unikraft.domain.order.OrderItem;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductCategory;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * LoadTestDataGenerator (부하 테스트용 데이터 생성)
+ *
+ * [도입 배경]
+ * - InitData는 회원 1명, 상품 2개만 만들기 때문에 용량 산정(capacity planning)에 쓸 수 없습니다.
+ *
+ * [동작 방식]
+ * - loadtest 프로필에서만 동작하며, 카테고리 K개 → 상품 M개 → 회원 N명 → 과거 주문 순서로 만듭니다.
+ * - JPA 배치 INSERT(hibernate.jdbc.batch_size)로 batch-size개마다 flush/clear 하고, chunk-size개마다 커밋합니다.
+ * - 비밀번호 해싱(BCrypt)은 일부러 느린 연산이므로 한 번만 해싱해서 모든 회원이 같은 값을 씁니다.
+ * - 주문 일시는 history-days 안에서 고르게 흩어 JDBC 배치 UPDATE로 과거로 옮깁니다.
+ * - 같은 seed면 항상 같은 데이터가 만들어집니다. 이미 생성된 DB(로컬 MySQL 등)면 건너뜁니다.
+ *
+ * [설정] unikraft.loadtest.* (application-loadtest.yml 참고)
+ * - 회원 아이디는 loadtest1 ~ loadtestN, 비밀번호는 password 설정값입니다.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+public class LoadTestDataGenerator implements CommandLineRunner {
+
+    public static final String LOGIN_ID_PREFIX = "loadtest";
+
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberRepository memberRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    private final int members;
+    private final int products;
+    private final int categories;
+    private final int orders;
+    private final int maxItemsPerOrder;
+    private final int historyDays;
+    private final String password;
+    private final long seed;
+    private final int batchSize;
+    private final int chunkSize;
+
+    public LoadTestDataGenerator(EntityManager em,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 MemberRepository memberRepository,
+                                 PasswordEncoder passwordEncoder,
+                                 @Value("${unikraft.loadtest.members:10000}") int members,
+                                 @Value("${unikraft.loadtest.products:5000}") int products,
+                                 @Value("${unikraft.loadtest.categories:20}") int categories,
+                                 @Value("${unikraft.loadtest.orders:50000}") int orders,
+                                 @Value("${unikraft.loadtest.max-items-per-order:3}") int maxItemsPerOrder,
+                                 @Value("${unikraft.loadtest.history-days:365}") int historyDays,
+                                 @Value("${unikraft.loadtest.password:loadtest}") String password,
+                                 @Value("${unikraft.loadtest.seed:42}") long seed,
+                                 @Value("${unikraft.jpa.batch-size:50}") int batchSize,
+                                 @Value("${unikraft.loadtest.chunk-size:5000}") int chunkSize) {
+        this.em = em;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.memberRepository = memberRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.members = members;
+        this.products = products;
+        this.categories = categories;
+        this.orders = orders;
+        this.maxItemsPerOrder = maxItemsPerOrder;
+        this.historyDays = historyDays;
+        this.password = password;
+        this.seed = seed;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+    }
+
+    public static String loginIdOf(int memberNo) {
+        return LOGIN_ID_PREFIX + memberNo;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (memberRepository.findByLoginId(loginIdOf(1)).isPresent()) {
+            log.info("부하 테스트 데이터가 이미 있어 생성을 건너뜁니다.");
+            return;
+        }
+
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<Long> categoryIds = new ArrayList<>(categories);
+        inChunks(categories, i -> {
+            ProductCategory category = new ProductCategory("LT-CATEGORY-" + (i + 1));
+            em.persist(category);
+            categoryIds.add(category.getId());
+        });
+
+        long[] productIds = new long[products];
+        int[] prices = new int[products];
+        inChunks(products, i -> {
+            prices[i] = 1_000 + random.nextInt(100) * 500;
+            Product product = Product.builder()
+                    .name("부하테스트 상품 " + (i + 1))
+                    .price(prices[i])
+                    .description("부하 테스트용 상품 설명 " + (i + 1))
+                    .imageUrl("loadtest-" + (i + 1) + ".jpg")
+                    .category(em.getReference(ProductCategory.class, categoryIds.get(i % categories)))
+                    // 부하 중 주문이 재고 부족으로 실패하지 않도록 넉넉하게 둡니다.
+                    .stockQuantity(1_000_000)
+                    .build();
+            em.persist(product);
+            productIds[i] = product.getId();
+        });
+
+        String encodedPassword = passwordEncoder.encode(password);
+        long[] memberIds = new long[members];
+        inChunks(members, i -> {
+            Member member = Member.builder()
+                    .name("부하테스트" + (i + 1))
+                    .loginId(loginIdOf(i + 1))
+                    .email(loginIdOf(i + 1) + "@loadtest.local")
+                    .password(encodedPassword)
+                    .build();
+            em.persist(member);
+            memberIds[i] = member.getId();
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        long historySeconds = historyDays * 24L * 60 * 60;
+        List<Object[]> orderDates = new ArrayList<>(chunkSize);
+        inChunks(orders, i -> {
+            int itemCount = 1 + random.nextInt(maxItemsPerOrder);
+            OrderItem[] orderItems = new OrderItem[itemCount];
+            for (int j = 0; j < itemCount; j++) {
+                int p = random.nextInt(products);
+                orderItems[j] = OrderItem.createOrderItem(
+                        em.getReference(Product.class, productIds[p]), prices[p], 1 + random.nextInt(3));
+            }
+            Order order = Order.createOrder(em.getReference(Member.class, memberIds[random.nextInt(members)]), orderItems);
+            em.persist(order);
+            orderDates.add(new Object[]{Timestamp.valueOf(now.minusSeconds(random.nextLong(historySeconds))), order.getId()});
+
+            // 청크의 마지막 주문이면 주문 일시를 한 번에 과거로 옮깁니다. (INSERT가 먼저 나가도록 flush 후 실행)
+            if (orderDates.size() == chunkSize || i == orders - 1) {
+                em.flush();
+                jdbcTemplate.batchUpdate("update orders set order_date = ? where id = ?", orderDates, batchSize,
+                        (ps, row) -> {
+                            ps.setTimestamp(1, (Timestamp) row[0]);
+                            ps.setLong(2, (Long) row[1]);
+                        });
+                orderDates.clear();
+            }
+        });
+
+        log.info("부하 테스트 데이터 생성 완료. categories={}, products={}, members={}, orders={}, {}ms",
+                categories, products, members, orders, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // count개를 chunk-size개씩 한 트랜잭션으로 만들고, batch-size개마다 flush/clear 해서 영속성 컨텍스트를 비웁니다.
+    private void inChunks(int count, IntConsumer create) {
+        for (int from = 0; from < count; from += chunkSize) {
+            int to = Math.min(from + chunkSize, count);
+            int chunkFrom = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = chunkFrom; i < to; i++) {
+                    create.accept(i);
+                    if ((i + 1) % batchSize == 0) {
+                        em.flush();
+                        em.clear();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.unikraft.global.config;
+
+import com.unikraft.global.util.ReadYourWritesWindow;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ *
+ * [켜는 방법]
+ * - unikraft.datasource.routing.enabled=true
+ * - 원본(Primary)은 spring.datasource.*, 복제본은 unikraft.datasource.replicas[n].url/username/password 로 지정합니다.
+ * - 커넥션 풀 설정(spring.datasource.hikari.*)은 원본과 복제본에 똑같이 적용됩니다.
+ *
+ * [구성]
+ * - dataSource(@Primary): LazyConnectionDataSourceProxy → ReadWriteRoutingDataSource → 원본/복제본 HikariCP 풀
+ * - 커넥션을 첫 SQL 실행 시점에 빌리므로, 그때는 트랜잭션의 readOnly 여부가 정해져 있습니다.
+ *
+ * [메트릭]
+ * - hikaricp.connections.*{pool=unikraft-primary|unikraft-replica-n}: 풀별 커넥션 지표
+ * - unikraft.datasource.outstanding{target}: 대상별로 빌려 간 커넥션 수
+ */
+@Configuration
+@ConditionalOnProperty(name = "unikraft.datasource.routing.enabled", havingValue = "true")
+public class ReadReplicaRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            ReadYourWritesWindow readYourWritesWindow,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${unikraft.datasource.routing.replica-retry-interval:5s}") Duration replicaRetryInterval) {
+
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = createPool(properties, binder, "unikraft-primary", meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceProperties> replicaProperties = binder
+                .bind("unikraft.datasource.replicas", Bindable.listOf(DataSourceProperties.class))
+                .orElse(List.of());
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            String name = "replica-" + (i + 1);
+            replicas.put(name, createPool(replicaProperties.get(i), binder, "unikraft-" + name, meterRegistry));
+        }
+
+        ReadWriteRoutingDataSource routing =
+                new ReadWriteRoutingDataSource(primary, replicas, readYourWritesWindow, replicaRetryInterval);
+
+        meterRegistry.ifAvailable(registry -> routing.getOutstanding().keySet().forEach(target ->
+                Gauge.builder("unikraft.datasource.outstanding", routing, r -> r.getOutstanding().get(target))
+                        .description("대상별로 빌려 간 커넥션 수")
+                        .tag("target", target)
+                        .register(registry)));
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    private static HikariDataSource createPool(DataSourceProperties properties, Binder binder, String poolName,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        meterRegistry.ifAvailable(pool::setMetricRegistry);
+        return pool;
+    }
+}
@@ -0,0 +1,164 @@
+package com.unikraft.global.config;
+
+import com.unikraft.global.util.ReadYourWritesWindow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기/쓰기 분리 DataSource (Read/Write Routing)
+ *
+ * [동작 방식]
+ * - @Transactional(readOnly = true) 트랜잭션의 커넥션은 복제본(Replica) 중 하나에서 빌립니다.
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 모두 원본(Primary)에서 빌립니다.
+ * - 트랜잭션이 읽기 전용인지는 커넥션을 실제로 빌리는 시점에 알 수 있으므로,
+ *   반드시 LazyConnectionDataSourceProxy로 감싸서 사용합니다. (ReadReplicaRoutingConfig 참고)
+ *
+ * [복제본 선택]
+ * - 지금 빌려 간 커넥션 수(outstanding)가 가장 적은 복제본을 고릅니다. (Least Outstanding Requests)
+ * - 커넥션을 못 빌린 복제본은 retryInterval 동안 제외하고 다음 복제본을 시도합니다.
+ * - 쓸 수 있는 복제본이 없으면 원본에서 읽습니다.
+ * - 최근에 주문한 회원(ReadYourWritesWindow)의 읽기는 복제 지연을 피하기 위해 원본으로 보냅니다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final Target primary;
+    private final List<Target> replicas;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final long retryIntervalNanos;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      Map<String, DataSource> replicas,
+                                      ReadYourWritesWindow readYourWritesWindow,
+                                      Duration retryInterval) {
+        this.primary = new Target(PRIMARY, primary);
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Target(name, dataSource)));
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.retryIntervalNanos = retryInterval.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 대상별로 지금 빌려 간 커넥션 수 (메트릭용)
+     * @return 대상 이름(primary, 복제본 이름) → 빌려 간 커넥션 수
+     */
+    public Map<String, Integer> getOutstanding() {
+        Map<String, Integer> outstanding = new LinkedHashMap<>();
+        outstanding.put(primary.name, primary.outstanding.get());
+        replicas.forEach(replica -> outstanding.put(replica.name, replica.outstanding.get()));
+        return outstanding;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Target replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary.dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWritesWindow.isActive()) {
+            for (Target replica : availableReplicas()) {
+                try {
+                    return replica.open(source);
+                } catch (SQLException e) {
+                    replica.downUntil.set(System.nanoTime() + retryIntervalNanos);
+                    log.warn("복제본 커넥션 실패, 다른 대상으로 전환합니다. replica={}, message={}", replica.name, e.getMessage());
+                }
+            }
+        }
+        return primary.open(source);
+    }
+
+    // 쓸 수 있는 복제본을 빌려 간 커넥션 수가 적은 순서로
+    private List<Target> availableReplicas() {
+        long now = System.nanoTime();
+        List<Target> available = new ArrayList<>(replicas.size());
+        for (Target replica : replicas) {
+            if (now - replica.downUntil.get() >= 0) {
+                available.add(replica);
+            }
+        }
+        available.sort(Comparator.comparingInt(replica -> replica.outstanding.get()));
+        return available;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Target {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicLong downUntil = new AtomicLong(System.nanoTime());
+
+        private Target(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private Connection open(ConnectionSource source) throws SQLException {
+            outstanding.incrementAndGet();
+            try {
+                return track(source.open(dataSource));
+            } catch (SQLException | RuntimeException e) {
+                outstanding.decrementAndGet();
+                throw e;
+            }
+        }
+
+        // close()가 여러 번 호출되어도 outstanding은 한 번만 줄어들도록 감쌉니다.
+        private Connection track(Connection target) {
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            if ("close".equals(method.getName()) && method.getParameterCount() == 0
+                                    && closed.compareAndSet(false, true)) {
+                                outstanding.decrementAndGet();
+                            }
+                        }
+                    });
+        }
+    }
+}
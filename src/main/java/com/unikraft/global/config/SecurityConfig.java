@@ -2,6 +2,7 @@ package com.unikraft.global.config;
 
 import com.unikraft.global.filter.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -14,6 +15,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 @EnableWebSecurity
@@ -22,13 +24,25 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // BCrypt 강도 (cost, 4~31)
+    // - 1 올릴 때마다 해싱 시간이 2배가 됩니다.
+    // - 값을 올리면 기존 회원의 비밀번호는 다음 로그인 때 새 강도로 다시 암호화됩니다. (MemberService.login)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${unikraft.security.bcrypt-strength:10}") int bcryptStrength) {
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
+    // Actuator 접근 규칙
+    // - /actuator/health 는 로드밸런서/쿠버네티스 확인용이라 누구나 볼 수 있습니다.
+    // - 나머지(metrics, prometheus)는 로그인한 사용자만 볼 수 있고,
+    //   management.server.port로 따로 연 관리 포트(외부에 공개하지 않는 내부 포트)로 들어온 요청만 인증 없이 허용합니다. (Prometheus 수집용)
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${server.port:8080}") int serverPort,
+                                           @Value("${management.server.port:-1}") int managementPort) throws Exception {
+        RequestMatcher managementPortRequest = request ->
+                managementPort > 0 && managementPort != serverPort && request.getLocalPort() == managementPort;
+
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable)
@@ -44,8 +58,14 @@ public class SecurityConfig {
                         // AntPathRequestMatcher를 사용하여 경로를 명확하게 지정합니다.
                         .requestMatchers(new AntPathRequestMatcher("/api/members/login")).permitAll()
                         .requestMatchers(new AntPathRequestMatcher("/api/members/signup")).permitAll()
+                        .requestMatchers(new AntPathRequestMatcher("/api/members/refresh")).permitAll()
+                        .requestMatchers(new AntPathRequestMatcher("/api/members/logout")).permitAll()
                         .requestMatchers(new AntPathRequestMatcher("/api/products/**")).permitAll()
                         .requestMatchers(new AntPathRequestMatcher("/h2-console/**")).permitAll()
+                        .requestMatchers(new AntPathRequestMatcher("/actuator/health")).permitAll()
+                        .requestMatchers(new AntPathRequestMatcher("/actuator/health/**")).permitAll()
+                        .requestMatchers(managementPortRequest).permitAll()
+                        .requestMatchers(new AntPathRequestMatcher("/actuator/**")).authenticated()
                         .anyRequest().authenticated()
                 )
 
@@ -0,0 +1,44 @@
+package com.unikraft.global.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 통계 설정 (개발용)
+ *
+ * [켜는 방법]
+ * - unikraft.sql-stats.enabled=true (기본 설정에서 켜짐, prod 프로필에서 꺼짐)
+ *
+ * [구성]
+ * - dataSource 빈을 StatementCountingDataSource로 감싸 실행한 SQL과 시간을 기록합니다.
+ * - SqlStatisticsFilter가 요청마다 집계해 지표로 내보내고, 예산을 넘은 요청은 쿼리 지문과 함께 경고 로그를 남깁니다.
+ * - unikraft.sql-stats.headers=true 이면 응답 헤더(X-Sql-Count, X-Sql-Time-Ms)로도 내보냅니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "unikraft.sql-stats.enabled", havingValue = "true")
+public class SqlStatisticsConfig {
+
+    /**
+     * dataSource 빈만 감쌉니다.
+     * - 읽기 복제본 라우팅을 켜면 원본/복제본 풀과 라우팅 DataSource도 빈이지만,
+     *   애플리케이션이 쓰는 최상위(dataSource) 하나만 감싸야 같은 SQL이 두 번 세어지지 않습니다.
+     * - BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static 메서드로 등록합니다.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof StatementCountingDataSource) {
+                    return bean;
+                }
+                return new StatementCountingDataSource(dataSource);
+            }
+        };
+    }
+}
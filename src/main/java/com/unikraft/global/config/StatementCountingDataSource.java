@@ -0,0 +1,94 @@
+package com.unikraft.global.config;
+
+import com.unikraft.global.util.SqlStatistics;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQL 실행 기록 DataSource (Statement Counting DataSource)
+ *
+ * [도입 배경]
+ * - 지연 로딩(Order.orderItems, OrderItem.product, Product.category, Cart.cartItems)으로 N+1이 생기기 쉬운데,
+ *   show-sql은 모든 SQL을 표준 출력으로 쏟아내 그 자체로 처리량을 떨어뜨리고 요청별로 묶어 보기도 어렵습니다.
+ *
+ * [동작 방식]
+ * - 커넥션이 만드는 Statement/PreparedStatement/CallableStatement를 감싸 execute* 호출의 SQL과 실행 시간을
+ *   현재 스레드의 SqlStatistics에 기록합니다. (Hibernate, JdbcTemplate 모두 포함)
+ * - 열린 SqlStatistics 구간이 없으면 시간 측정 없이 그대로 실행합니다.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement(sql, ...), prepareCall(sql, ...)는 첫 번째 인자가 SQL입니다. (createStatement는 실행할 때 받음)
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrap(statement, method.getReturnType(), sql);
+            }
+            return result;
+        };
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    // 반환 타입(Statement/PreparedStatement/CallableStatement) 그대로 감싸서 호출한 쪽의 캐스팅이 깨지지 않게 합니다.
+    private static Statement wrap(Statement target, Class<?> statementType, String preparedSql) {
+        InvocationHandler handler = new InvocationHandler() {
+
+            // Statement.execute(sql), addBatch(sql)로 넘어온 마지막 SQL
+            private String sql = preparedSql;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if (args != null && args.length > 0 && args[0] instanceof String s
+                        && (name.startsWith("execute") || "addBatch".equals(name))) {
+                    sql = s;
+                }
+                if (!name.startsWith("execute") || SqlStatistics.current() == null) {
+                    return StatementCountingDataSource.invoke(target, method, args);
+                }
+
+                long start = System.nanoTime();
+                try {
+                    return StatementCountingDataSource.invoke(target, method, args);
+                } finally {
+                    SqlStatistics.record(sql, System.nanoTime() - start);
+                }
+            }
+        };
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(), new Class<?>[]{statementType}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.unikraft.global.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드 설정 (virtual 프로필)
+ *
+ * [켜는 방법]
+ * - Java 21 툴체인으로 빌드/실행하고 virtual 프로필을 켭니다.
+ *   ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=virtual'
+ * - spring.threads.virtual.enabled=true 이면 Spring Boot가 Tomcat 요청 처리와 @Scheduled 작업을 가상 스레드로 실행합니다.
+ *
+ * [DB 커넥션 보호]
+ * - 가상 스레드는 개수 제한이 없으므로, DataSource를 ConcurrencyLimitingDataSource로 감싸
+ *   동시에 커넥션을 빌릴 수 있는 스레드 수를 커넥션 풀 크기로 제한합니다.
+ * - unikraft.jdbc.concurrency-limit.enabled=true 일 때만 적용됩니다. (virtual 프로필에서 켜짐)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "unikraft.jdbc.concurrency-limit.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * dataSource 빈만 ConcurrencyLimitingDataSource로 감쌉니다.
+     * - 읽기 복제본 라우팅을 켜면 readWriteRoutingDataSource도 DataSource 빈이지만, 타입으로 주입받는 빈이라 감싸면 기동에 실패하고
+     *   허가도 두 번 잡게 됩니다. 애플리케이션이 쓰는 최상위(dataSource) 하나만 감쌉니다. (SqlStatisticsConfig와 같은 규칙)
+     * - BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static 메서드로 등록합니다.
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+
+                // 허가 수 = 커넥션 풀 크기 (기본값은 HikariCP 기본 풀 크기 10)
+                int maxConcurrency = environment.getProperty("unikraft.jdbc.concurrency-limit.max-concurrency", Integer.class,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                Duration acquireTimeout = environment.getProperty("unikraft.jdbc.concurrency-limit.acquire-timeout",
+                        Duration.class, Duration.ofSeconds(30));
+                return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, acquireTimeout);
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerMetrics(ApplicationReadyEvent event) {
+        ObjectProvider<MeterRegistry> meterRegistry = event.getApplicationContext().getBeanProvider(MeterRegistry.class);
+        event.getApplicationContext().getBeansOfType(DataSource.class).forEach((name, dataSource) -> {
+            if (dataSource instanceof ConcurrencyLimitingDataSource limited) {
+                meterRegistry.ifAvailable(registry -> Gauge.builder("unikraft.jdbc.waiting", limited,
+                                ConcurrencyLimitingDataSource::getWaitingThreads)
+                        .description("DB 커넥션 허가를 기다리는 스레드 수")
+                        .tag("datasource", name)
+                        .register(registry));
+            }
+        });
+        log.info("가상 스레드 모드: DB 동시 접근 제한 활성화. virtualThreads={}",
+                event.getApplicationContext().getEnvironment().getProperty("spring.threads.virtual.enabled", "false"));
+    }
+}
@@ -0,0 +1,20 @@
+package com.unikraft.global.error;
+
+import lombok.Getter;
+
+/**
+ * 일시적 처리 불가 예외 (HTTP 503 Service Unavailable)
+ * - 서버 자원(스레드 풀 등)이 포화되어 요청을 받을 수 없을 때 사용합니다.
+ * - GlobalExceptionHandler가 Retry-After 헤더와 함께 503으로 응답합니다.
+ */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    // 다시 시도해도 되는 시점까지 남은 시간 (초)
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.unikraft.global.error;
+
+import lombok.Getter;
+
+/**
+ * 요청 횟수 초과 예외 (HTTP 429 Too Many Requests)
+ * - GlobalExceptionHandler가 Retry-After 헤더와 함께 429로 응답합니다.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    // 다시 시도해도 되는 시점까지 남은 시간 (초)
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,5 +1,6 @@
 package com.unikraft.global.filter;
 
+import com.unikraft.global.util.AuthMetrics;
 import com.unikraft.global.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -14,12 +15,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final AuthMetrics authMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -38,12 +41,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         //    - "Bearer " 접두사(7글자)를 제거하고 순수한 JWT 문자열만 남깁니다.
         String token = authorizationHeader.substring(7);
 
-        // 4. 토큰 유효성 검증
+        // 4. 토큰 유효성 검증 + 사용자 정보(이메일/ID) 추출
         //    - JwtUtil을 사용하여 토큰이 위변조되지 않았는지, 만료되지 않았는지 확인합니다.
-        if (jwtUtil.validateToken(token)) {
+        //    - 검증과 추출을 한 번의 파싱으로 처리하고, 이미 검증한 토큰은 캐시된 결과를 사용합니다.
+        //    - 검증 시간을 결과(valid/invalid)별로 기록합니다. (unikraft.auth.token.verify)
+        long start = System.nanoTime();
+        Optional<String> verifiedLoginId = jwtUtil.verify(token);
+        authMetrics.recordTokenVerification(verifiedLoginId.isPresent(), start);
+        if (verifiedLoginId.isPresent()) {
 
-            // 5. 토큰에서 사용자 정보(이메일/ID) 추출
-            String loginId = jwtUtil.getEmailFromToken(token);
+            // 5. 검증된 사용자 정보(이메일/ID)
+            String loginId = verifiedLoginId.get();
 
             // 6. 인증 객체(Authentication) 생성
             //    - UsernamePasswordAuthenticationToken: 스프링 시큐리티가 사용하는 표준 인증 객체입니다.
@@ -0,0 +1,125 @@
+package com.unikraft.global.filter;
+
+import com.unikraft.global.util.SqlStatistics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 통계 필터 (개발용)
+ *
+ * [동작 방식]
+ * - 요청마다 SqlStatistics 구간을 열어 실행된 JDBC 문장 수와 DB 시간을 모읍니다. (보안 필터보다 바깥에서 실행)
+ * - 요청이 끝나면 엔드포인트(URI 패턴)별 지표로 기록합니다.
+ *   - unikraft.http.sql.statements{method,uri}: 요청당 문장 수
+ *   - unikraft.http.sql.time{method,uri}: 요청당 DB 시간
+ * - 문장 수가 statement-budget을, 요청 시간이 latency-budget을 넘으면 많이 실행된 쿼리 지문과 함께 경고 로그를 남깁니다.
+ * - headers가 켜져 있으면 X-Sql-Count, X-Sql-Time-Ms 응답 헤더를 붙입니다.
+ *   본문이 있는 응답은 본문을 쓰기 직전(SqlStatisticsHeaderAdvice), 본문이 없는 응답(201/204 등)은 요청이 끝날 때 붙이므로,
+ *   본문 직렬화 중의 지연 로딩 SQL은 헤더에서 빠질 수 있지만 지표와 로그에는 항상 포함됩니다.
+ *
+ * [주의]
+ * - 비동기로 끝나는 요청(CompletableFuture 반환, 예: 로그인)은 요청 스레드 밖에서 실행된 SQL을 알 수 없어 집계하지 않습니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "unikraft.sql-stats.enabled", havingValue = "true")
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Sql-Count";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    // 경고 로그에 남길 쿼리 지문 수
+    private static final int LOGGED_FINGERPRINTS = 5;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean headers;
+    private final int statementBudget;
+    private final Duration latencyBudget;
+
+    public SqlStatisticsFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                               @Value("${unikraft.sql-stats.headers:false}") boolean headers,
+                               @Value("${unikraft.sql-stats.statement-budget:20}") int statementBudget,
+                               @Value("${unikraft.sql-stats.latency-budget:500ms}") Duration latencyBudget) {
+        this.meterRegistry = meterRegistry;
+        this.headers = headers;
+        this.statementBudget = statementBudget;
+        this.latencyBudget = latencyBudget;
+    }
+
+    /**
+     * 응답 헤더 쓰기 (SqlStatisticsHeaderAdvice와 함께 사용)
+     */
+    static void writeHeaders(SqlStatistics statistics, HeaderWriter writer) {
+        writer.set(COUNT_HEADER, String.valueOf(statistics.getStatements()));
+        writer.set(TIME_HEADER, String.format("%.3f", statistics.getTime(TimeUnit.MICROSECONDS) / 1000.0));
+    }
+
+    @FunctionalInterface
+    interface HeaderWriter {
+        void set(String name, String value);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        SqlStatistics statistics = SqlStatistics.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statistics.close();
+            if (!isAsyncStarted(request)) {
+                if (headers && !response.isCommitted()) {
+                    writeHeaders(statistics, response::setHeader);
+                }
+                report(request, statistics, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatistics statistics, long elapsedNanos) {
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        meterRegistry.ifAvailable(registry -> {
+            DistributionSummary.builder("unikraft.http.sql.statements")
+                    .description("요청당 실행한 SQL 문장 수")
+                    .tags("method", method, "uri", uri)
+                    .register(registry)
+                    .record(statistics.getStatements());
+            Timer.builder("unikraft.http.sql.time")
+                    .description("요청당 DB 시간")
+                    .tags("method", method, "uri", uri)
+                    .register(registry)
+                    .record(statistics.getTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        });
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (statistics.getStatements() > statementBudget || elapsedMillis > latencyBudget.toMillis()) {
+            log.warn("SQL 예산 초과: {} {} ({}) statements={} (budget {}), dbTime={}ms, elapsed={}ms (budget {}ms), top={}",
+                    method, uri, request.getRequestURI(), statistics.getStatements(), statementBudget,
+                    statistics.getTime(TimeUnit.MILLISECONDS), elapsedMillis, latencyBudget.toMillis(),
+                    statistics.topFingerprints(LOGGED_FINGERPRINTS));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.unikraft.global.filter;
+
+import com.unikraft.global.util.SqlStatistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 요청별 SQL 통계 응답 헤더 (개발용)
+ * - 본문을 쓰면 응답이 커밋되어 헤더를 더 붙일 수 없으므로, 본문을 쓰기 직전까지의 통계를 헤더로 붙입니다.
+ * - unikraft.sql-stats.enabled, unikraft.sql-stats.headers가 모두 true일 때만 동작합니다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = {"unikraft.sql-stats.enabled", "unikraft.sql-stats.headers"}, havingValue = "true")
+public class SqlStatisticsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null) {
+            SqlStatisticsFilter.writeHeaders(statistics, response.getHeaders()::set);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,76 @@
+package com.unikraft.global.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthMetrics (인증 지표)
+ *
+ * [지표]
+ * - unikraft.auth.login{outcome=success|failure}: 로그인 처리 시간 (해싱 대기열 대기 + BCrypt 비교 포함)
+ * - unikraft.auth.token.verify{result=valid|invalid}: 요청마다 JwtAuthenticationFilter가 토큰을 검증한 시간
+ * - cache.*{cache=jwt.verified}: 검증 완료 토큰 캐시의 적중/미스/크기
+ *
+ * [비용]
+ * - Timer는 생성 시 한 번만 등록하고, 호출 시에는 레지스트리를 조회하지 않습니다.
+ */
+@Component
+public class AuthMetrics {
+
+    private final Timer loginSuccess;
+    private final Timer loginFailure;
+    private final Timer tokenValid;
+    private final Timer tokenInvalid;
+
+    public AuthMetrics(MeterRegistry meterRegistry, JwtUtil jwtUtil) {
+        this.loginSuccess = loginTimer(meterRegistry, "success");
+        this.loginFailure = loginTimer(meterRegistry, "failure");
+        this.tokenValid = tokenTimer(meterRegistry, "valid");
+        this.tokenInvalid = tokenTimer(meterRegistry, "invalid");
+
+        CaffeineCacheMetrics.monitor(meterRegistry, jwtUtil.verifiedTokens(), "jwt.verified");
+    }
+
+    /**
+     * @param success 로그인 성공 여부
+     * @param startNanos 시작 시각 (System.nanoTime())
+     */
+    public void recordLogin(boolean success, long startNanos) {
+        (success ? loginSuccess : loginFailure).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param valid 검증 결과
+     * @param startNanos 시작 시각 (System.nanoTime())
+     */
+    public void recordTokenVerification(boolean valid, long startNanos) {
+        (valid ? tokenValid : tokenInvalid).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer loginTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("unikraft.auth.login")
+                .description("로그인 처리 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private static Timer tokenTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("unikraft.auth.token.verify")
+                .description("요청별 토큰 검증 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                // 캐시 적중 시 1µs 안팎이므로 범위를 µs 미만부터 잡습니다.
+                .minimumExpectedValue(Duration.of(100, ChronoUnit.NANOS))
+                .maximumExpectedValue(Duration.ofMillis(100))
+                .register(meterRegistry);
+    }
+}
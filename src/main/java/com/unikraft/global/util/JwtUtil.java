@@ -1,14 +1,30 @@
 package com.unikraft.global.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Component
 public class JwtUtil {
 
@@ -20,22 +36,107 @@ public class JwtUtil {
     private static final String SECRET_KEY = "unikraft_secret_key_must_be_very_long_and_secure_enough_to_prevent_brute_force_attacks";
     private static final Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
 
-    // 2. 토큰 만료 시간 (Expiration Time)
-    //    - 토큰이 발급된 후 언제까지 유효한지 설정합니다.
-    //    - 여기서는 1시간(60분 * 60초 * 1000밀리초)으로 설정했습니다.
-    private static final long EXPIRATION_TIME = 1000 * 60 * 60;
+    // 2. 토큰 종류 (Token Type)
+    //    - Access Token: API 호출에 쓰는 짧은 수명의 토큰 (기본 15분)
+    //    - Refresh Token: Access Token 재발급에만 쓰는 긴 수명의 토큰 (기본 14일)
+    //    - 두 토큰을 서로 바꿔 쓸 수 없도록 "typ" 클레임으로 구분합니다.
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    // 토큰 묶음 (Token Family)
+    //    - 로그인 한 번으로 시작된 세션의 모든 Access/Refresh Token에 같은 "fam" 클레임을 넣습니다. (재발급해도 유지)
+    //    - 이미 쓴 Refresh Token이 다시 들어오면 탈취로 보고 묶음 전체를 폐기합니다.
+    //      (정상 사용자와 공격자 중 누가 먼저 재발급했는지 알 수 없으므로 둘 다 다시 로그인해야 합니다)
+    private static final String TOKEN_FAMILY_CLAIM = "fam";
+
+    // 3. 재사용 파서 (Reusable Parser)
+    //    - JwtParser는 불변(immutable)이고 스레드 안전(thread-safe)하므로 한 번만 만들어 모든 요청에서 공유합니다.
+    //    - 요청마다 parserBuilder().build()를 호출하던 객체 생성 비용이 사라집니다.
+    private static final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    // 4. 검증 완료 토큰 캐시 (Verified Token Cache)
+    //    - 같은 토큰이 반복해서 들어오면 HMAC 서명 검증을 다시 하지 않고 캐시된 결과(Subject)를 사용합니다.
+    //    - 키는 토큰 원문이 아니라 SHA-256 다이제스트이므로, 메모리에 토큰 원문이 남지 않습니다.
+    //    - 항목은 토큰의 만료 시각(exp)에 맞춰 사라지므로, 만료된 토큰이 캐시 때문에 통과되지 않습니다.
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+
+    // 5. 폐기 목록 (Revocation)
+    //    - 로그아웃/재발급으로 폐기된 토큰은 서명이 유효해도 거절합니다. (캐시 적중 시에도 확인)
+    private final TokenRevocationStore revocationStore;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+
+    public JwtUtil(TokenRevocationStore revocationStore,
+                   @Value("${unikraft.jwt.verified-cache-size:10000}") long verifiedCacheSize,
+                   @Value("${unikraft.jwt.access-token-ttl:15m}") Duration accessTokenTtl,
+                   @Value("${unikraft.jwt.refresh-token-ttl:14d}") Duration refreshTokenTtl) {
+        this.revocationStore = revocationStore;
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
 
     /**
      * 토큰 생성 (Create Token)
+     * - 새 토큰 묶음으로 Access Token을 발급합니다.
      * @param email 사용자 이메일 (토큰의 주체, Subject)
      * @return 생성된 JWT 문자열
      */
     public String createToken(String email) {
+        return createToken(email, newTokenFamily());
+    }
+
+    /**
+     * 토큰 생성 (Create Token)
+     * @param email 사용자 이메일 (토큰의 주체, Subject)
+     * @param family 토큰 묶음 ID (newTokenFamily 또는 consumeRefreshToken의 결과)
+     * @return 생성된 JWT 문자열
+     */
+    public String createToken(String email, String family) {
+        return createToken(email, family, ACCESS_TOKEN_TYPE, accessTokenTtl);
+    }
+
+    /**
+     * Refresh Token 생성
+     * - 비밀번호 없이 새 Access Token을 받을 때 한 번만 쓸 수 있는 토큰입니다.
+     * @param email 사용자 이메일 (토큰의 주체, Subject)
+     * @param family 토큰 묶음 ID (Access Token과 같은 값)
+     * @return 생성된 JWT 문자열
+     */
+    public String createRefreshToken(String email, String family) {
+        return createToken(email, family, REFRESH_TOKEN_TYPE, refreshTokenTtl);
+    }
+
+    /**
+     * 새 토큰 묶음 ID (로그인할 때마다 하나씩)
+     */
+    public String newTokenFamily() {
+        return UUID.randomUUID().toString();
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    // 검증 완료 토큰 캐시 (AuthMetrics가 적중/미스 통계를 내보낼 때 사용)
+    Cache<?, ?> verifiedTokens() {
+        return verifiedTokens;
+    }
+
+    private String createToken(String email, String family, String tokenType, Duration ttl) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + EXPIRATION_TIME);
+        Date expiryDate = new Date(now.getTime() + ttl.toMillis());
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 토큰 고유 ID(jti) 설정 (폐기 목록의 키)
                 .setSubject(email) // 토큰의 주인(Subject) 설정
+                .claim(TOKEN_TYPE_CLAIM, tokenType) // 토큰 종류 설정
+                .claim(TOKEN_FAMILY_CLAIM, family) // 토큰 묶음 설정
                 .setIssuedAt(now) // 토큰 발급 시간 설정
                 .setExpiration(expiryDate) // 토큰 만료 시간 설정
                 .signWith(key, SignatureAlgorithm.HS256) // 비밀키와 알고리즘으로 서명
@@ -43,18 +144,72 @@ public class JwtUtil {
     }
 
     /**
-     * 토큰에서 이메일 추출 (Get Email from Token)
+     * 토큰 검증 + 이메일 추출 (Verify Token)
+     * - 한 번의 파싱으로 서명/만료를 검증하고 Subject를 꺼냅니다.
+     * - 이미 검증한 토큰은 캐시에서 바로 꺼내므로 파싱과 서명 검증을 생략합니다.
+     * - Access Token만 통과하며, 폐기된 토큰과 폐기된 묶음의 토큰은 거절합니다.
      * @param token JWT 문자열
-     * @return 토큰에 담긴 이메일 (Subject)
+     * @return 유효하면 토큰에 담긴 이메일 (Subject), 아니면 빈 값
      */
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key) // 비밀키로 서명 검증
-                .build()
-                .parseClaimsJws(token) // 토큰 파싱
-                .getBody(); // Payload(Claims) 추출
+    public Optional<String> verify(String token) {
+        ByteBuffer digest = digest(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified == null) {
+            verified = parse(token, ACCESS_TOKEN_TYPE);
+            if (verified == null) {
+                return Optional.empty();
+            }
+            verifiedTokens.put(digest, verified);
+        }
 
-        return claims.getSubject(); // Subject(이메일) 반환
+        if (isRevoked(verified)) {
+            return Optional.empty();
+        }
+        return Optional.of(verified.subject);
+    }
+
+    /**
+     * Refresh Token 사용 (Rotation)
+     * - 유효한 Refresh Token이면 즉시 폐기하고 Subject와 토큰 묶음을 돌려줍니다.
+     * - 같은 Refresh Token은 한 번만 쓸 수 있습니다. 이미 쓴 토큰이 다시 들어오면(재사용) 거절하고,
+     *   같은 묶음의 토큰(그 뒤에 재발급된 Access/Refresh Token 포함)을 모두 폐기합니다.
+     * - DB 조회나 비밀번호 해싱 없이 서명 검증 한 번으로 끝납니다.
+     * @param refreshToken Refresh Token 문자열
+     * @return 유효하면 [Subject, 토큰 묶음], 아니면 빈 값
+     */
+    public Optional<RefreshedSession> consumeRefreshToken(String refreshToken) {
+        VerifiedToken verified = parse(refreshToken, REFRESH_TOKEN_TYPE);
+        if (verified == null || (verified.family != null && revocationStore.isFamilyRevoked(verified.family))) {
+            return Optional.empty();
+        }
+        if (!revocationStore.revoke(verified.jti, verified.expiresAtMillis)) {
+            if (verified.family != null) {
+                revocationStore.revokeFamily(verified.family, System.currentTimeMillis() + refreshTokenTtl.toMillis());
+                log.warn("이미 사용한 Refresh Token이 다시 들어와 토큰 묶음을 폐기합니다. subject={}", verified.subject);
+            }
+            return Optional.empty();
+        }
+        String family = verified.family != null ? verified.family : newTokenFamily();
+        return Optional.of(new RefreshedSession(verified.subject, family));
+    }
+
+    /**
+     * 토큰 폐기 (Revoke)
+     * - 로그아웃 시 Access/Refresh Token과 그 토큰 묶음(같은 로그인에서 재발급된 토큰들)을 만료 전에 무효화합니다.
+     * - 이미 만료되었거나 형식이 잘못된 토큰은 무시합니다.
+     * @param token JWT 문자열
+     */
+    public void revoke(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            revocationStore.revoke(claims.getId(), claims.getExpiration().getTime());
+            String family = claims.get(TOKEN_FAMILY_CLAIM, String.class);
+            if (family != null) {
+                revocationStore.revokeFamily(family, System.currentTimeMillis() + refreshTokenTtl.toMillis());
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 쓸 수 없는 토큰이므로 폐기할 필요가 없습니다.
+        }
     }
 
     /**
@@ -63,12 +218,79 @@ public class JwtUtil {
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    // 서명/만료/토큰 종류를 검증합니다. 실패하면 null을 반환합니다.
+    private VerifiedToken parse(String token, String expectedType) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (!expectedType.equals(claims.get(TOKEN_TYPE_CLAIM, String.class)) || claims.getId() == null) {
+                return null;
+            }
+            return new VerifiedToken(claims.getSubject(), claims.getId(), claims.get(TOKEN_FAMILY_CLAIM, String.class),
+                    claims.getExpiration().getTime());
+        } catch (JwtException | IllegalArgumentException e) {
             // 서명이 틀리거나, 만료되었거나, 형식이 잘못된 경우 예외 발생
-            return false;
+            return null;
+        }
+    }
+
+    private boolean isRevoked(VerifiedToken verified) {
+        return revocationStore.isRevoked(verified.jti)
+                || (verified.family != null && revocationStore.isFamilyRevoked(verified.family));
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * Refresh Token을 쓴 결과 (새 토큰 쌍은 같은 묶음으로 발급합니다)
+     * @param subject 토큰의 주체 (loginId)
+     * @param family 토큰 묶음 ID
+     */
+    public record RefreshedSession(String subject, String family) {
+    }
+
+    // 검증이 끝난 토큰의 결과 (Subject, 토큰 고유 ID, 토큰 묶음, 만료 시각)
+    private static final class VerifiedToken {
+
+        private final String subject;
+        private final String jti;
+        private final String family;
+        private final long expiresAtMillis;
+
+        private VerifiedToken(String subject, String jti, String family, long expiresAtMillis) {
+            this.subject = subject;
+            this.jti = jti;
+            this.family = family;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    // 캐시 항목의 수명을 토큰의 남은 유효 시간으로 설정합니다.
+    private static final class TokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.unikraft.global.util;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * 풀링 시퀀스 ID 생성기 (Pooled Sequence Generator)
+ *
+ * [왜 IDENTITY를 쓰지 않나요?]
+ * - IDENTITY(AUTO_INCREMENT)는 INSERT를 실행해야만 ID를 알 수 있어서, Hibernate가 엔티티를 저장할 때마다
+ *   즉시 INSERT를 보내야 합니다. 그래서 JDBC 배치(hibernate.jdbc.batch_size)가 조용히 꺼집니다.
+ * - 시퀀스는 INSERT 전에 ID를 미리 받아오므로, 여러 INSERT를 모아서 한 번에 보낼 수 있습니다.
+ *
+ * [풀링 (Pooled Optimizer)]
+ * - 시퀀스를 한 번 호출할 때 allocation size 만큼의 ID 구간을 받아와 메모리에서 나눠 씁니다.
+ *   (예: 50이면 시퀀스 조회 1번으로 ID 50개를 사용)
+ * - 시퀀스가 없는 DB(MySQL)에서는 Hibernate가 테이블로 시퀀스를 흉내 냅니다. (table-hilo 방식)
+ *
+ * [설정]
+ * - 어노테이션의 allocationSize는 상수만 받을 수 있으므로, Hibernate 설정 값
+ *   unikraft.id.allocation_size(기본 50)를 읽어 모든 엔티티에 같은 크기를 적용합니다.
+ *
+ * [기존 MySQL 스키마 옮기기 (IDENTITY → 시퀀스 테이블)]
+ * - 운영은 ddl-auto: validate라서 시퀀스 테이블이 없으면 기동에 실패합니다. 애플리케이션을 멈춘 뒤 테이블마다 아래를 실행합니다.
+ *   (시퀀스 이름: product_seq, product_category_seq, member_seq, orders_seq, order_item_seq, cart_seq, cart_item_seq,
+ *   stock_reservation_seq)
+ * <pre>
+ * CREATE TABLE product_seq (next_val BIGINT NOT NULL);
+ * -- 풀링은 읽은 값에서 allocation size만큼 앞의 ID부터 쓰므로, 기존 최대 ID + allocation size + 1로 시작합니다.
+ * INSERT INTO product_seq SELECT COALESCE(MAX(id), 0) + 50 + 1 FROM product;
+ * -- 이제 ID는 Hibernate가 정하므로 AUTO_INCREMENT를 뺍니다. (남겨 두어도 동작하지만, 직접 INSERT한 행과 ID 구간이 섞입니다)
+ * ALTER TABLE product MODIFY id BIGINT NOT NULL;
+ * </pre>
+ * - allocation size를 나중에 키우면 이미 나눠 준 구간과 겹칠 수 있으므로, 키울 때는 next_val도 새 크기만큼 올려 둡니다.
+ *
+ * 사용 예:
+ * <pre>
+ * &#64;GeneratedValue(generator = "orders_seq")
+ * &#64;GenericGenerator(name = "orders_seq", type = PooledSequenceGenerator.class,
+ *         parameters = &#64;Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "orders_seq"))
+ * </pre>
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "unikraft.id.allocation_size";
+    private static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        int allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+
+        parameters.put(INCREMENT_PARAM, String.valueOf(allocationSize));
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -0,0 +1,63 @@
+package com.unikraft.global.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 자신이 쓴 데이터 읽기 보장 (Read-Your-Writes Window)
+ *
+ * [도입 배경]
+ * - 읽기 전용 트랜잭션은 복제본(Replica)으로 보내는데, 복제본은 원본(Primary)보다 조금 늦게 반영됩니다.
+ * - 주문 직후 "내 주문 목록"을 열었는데 방금 한 주문이 안 보이면 안 됩니다.
+ *
+ * [동작 방식]
+ * - 회원이 주문하면 일정 시간(기본 5초) 동안 그 회원을 기록해 둡니다.
+ * - 그동안 그 회원의 읽기 요청은 복제본 대신 원본으로 보냅니다. (ReadWriteRoutingDataSource가 확인)
+ * - 현재 회원은 SecurityContext의 인증 정보(loginId)로 판단합니다.
+ */
+@Component
+public class ReadYourWritesWindow {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(@Value("${unikraft.datasource.routing.read-your-writes-window:5s}") Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /**
+     * 회원이 데이터를 썼다고 기록합니다.
+     * - 트랜잭션 안이면 커밋 시점에 한 번 더 기록해, 창(window)이 커밋 이후부터 시작되도록 합니다.
+     * @param loginId 데이터를 쓴 회원의 ID
+     */
+    public void markWrite(String loginId) {
+        recentWriters.put(loginId, Boolean.TRUE);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(loginId, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    /**
+     * 현재 요청의 회원이 최근에 데이터를 썼는지 확인합니다.
+     * @return true면 원본(Primary)에서 읽어야 함
+     */
+    public boolean isActive() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && recentWriters.getIfPresent(authentication.getName()) != null;
+    }
+}
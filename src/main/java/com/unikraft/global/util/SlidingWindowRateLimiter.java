@@ -0,0 +1,180 @@
+package com.unikraft.global.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 슬라이딩 윈도우 횟수 제한기 (Sliding Window Rate Limiter)
+ *
+ * [알고리즘: Sliding Window Counter]
+ * - 키마다 "이전 윈도우 횟수"와 "현재 윈도우 횟수" 두 개만 보관합니다.
+ * - 현재 시점의 추정 횟수 = 이전 횟수 × (이전 윈도우가 아직 겹치는 비율) + 현재 횟수
+ * - 요청 시각을 전부 저장하는 방식(Sliding Log)과 달리 키당 메모리가 일정합니다.
+ *
+ * [스트라이핑 (Striping)]
+ * - 키의 해시로 고른 stripe(구역)마다 따로 잠금을 걸어, 서로 다른 키는 거의 경합하지 않습니다.
+ * - stripe마다 최대 크기를 두고 가장 오래 쓰지 않은 키부터 버리므로(LRU),
+ *   무작위 아이디/IP로 공격해도 메모리가 한도를 넘지 않습니다.
+ */
+public class SlidingWindowRateLimiter {
+
+    private final int limit;
+    private final long windowMillis;
+    private final Stripe[] stripes;
+
+    /**
+     * @param limit 윈도우 안에서 허용하는 최대 횟수
+     * @param window 윈도우 길이
+     * @param stripeCount stripe 개수 (2의 거듭제곱으로 올림)
+     * @param maxKeysPerStripe stripe 하나가 기억하는 최대 키 수
+     */
+    public SlidingWindowRateLimiter(int limit, Duration window, int stripeCount, int maxKeysPerStripe) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다. limit=" + limit);
+        }
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+    }
+
+    /**
+     * 횟수를 하나 기록하고, 한도 안이면 true를 반환합니다. (한도를 넘으면 기록하지 않음)
+     * @param key 제한 대상 (아이디, IP 등)
+     * @return 허용 여부
+     */
+    public boolean tryAcquire(String key) {
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Window window = stripe.windows.computeIfAbsent(key, k -> new Window(now));
+            window.roll(now, windowMillis);
+            if (window.estimate(now, windowMillis) >= limit) {
+                return false;
+            }
+            window.current++;
+            return true;
+        }
+    }
+
+    /**
+     * 이미 한도에 도달했는지 확인합니다. (기록하지 않음)
+     * @param key 제한 대상
+     * @return 한도에 도달했으면 true
+     */
+    public boolean isLimited(String key) {
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Window window = stripe.windows.get(key);
+            if (window == null) {
+                return false;
+            }
+            window.roll(now, windowMillis);
+            return window.estimate(now, windowMillis) >= limit;
+        }
+    }
+
+    /**
+     * tryAcquire로 기록한 횟수 하나를 되돌립니다. (예: 서버 사정으로 처리하지 못한 시도)
+     * @param key 제한 대상
+     */
+    public void release(String key) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Window window = stripe.windows.get(key);
+            if (window == null) {
+                return;
+            }
+            window.roll(System.currentTimeMillis(), windowMillis);
+            if (window.current > 0) {
+                window.current--;
+            } else if (window.previous > 0) {
+                window.previous--;
+            }
+        }
+    }
+
+    /**
+     * 기록을 지웁니다. (예: 로그인 성공 시 실패 횟수 초기화)
+     * @param key 제한 대상
+     */
+    public void reset(String key) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.windows.remove(key);
+        }
+    }
+
+    /**
+     * 다시 시도해도 되는 시점까지 남은 시간 (Retry-After 용)
+     * - 현재 윈도우가 끝나면 추정 횟수가 적어도 현재 횟수만큼 줄어듭니다.
+     * @return 남은 시간 (초, 최소 1)
+     */
+    public long retryAfterSeconds(String key) {
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Window window = stripe.windows.get(key);
+            long remainingMillis = window == null ? 0 : window.start + windowMillis - now;
+            return Math.max(1, (remainingMillis + 999) / 1000);
+        }
+    }
+
+    private Stripe stripeOf(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+
+        private final Map<String, Window> windows;
+
+        private Stripe(int maxKeys) {
+            this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    // 키 하나의 윈도우 상태 (stripe 잠금 안에서만 접근)
+    private static final class Window {
+
+        private long start;
+        private int previous;
+        private int current;
+
+        private Window(long now) {
+            this.start = now;
+        }
+
+        // 윈도우가 지났으면 현재 → 이전으로 넘기고, 두 윈도우 이상 지났으면 모두 비웁니다.
+        private void roll(long now, long windowMillis) {
+            long elapsed = now - start;
+            if (elapsed < windowMillis) {
+                return;
+            }
+            if (elapsed < windowMillis * 2) {
+                previous = current;
+                start += windowMillis;
+            } else {
+                previous = 0;
+                start = now;
+            }
+            current = 0;
+        }
+
+        private double estimate(long now, long windowMillis) {
+            double previousWeight = 1.0 - (double) (now - start) / windowMillis;
+            return previous * previousWeight + current;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.unikraft.global.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * SqlStatistics (SQL 실행 통계)
+ *
+ * [용도]
+ * - 한 구간(HTTP 요청 하나, 테스트의 서비스 호출 하나)에서 실행된 JDBC 문장 수, DB 시간, 쿼리 지문(fingerprint)을 모읍니다.
+ * - StatementCountingDataSource가 문장을 실행할 때마다 현재 스레드의 통계에 기록합니다.
+ *
+ * [사용법]
+ * - try (SqlStatistics statistics = SqlStatistics.start()) { ... } 로 구간을 열고 닫습니다.
+ * - 구간은 겹쳐 열 수 있으며, 안쪽 구간의 문장은 바깥 구간에도 함께 기록됩니다.
+ *
+ * [주의]
+ * - 스레드별(ThreadLocal)로 모으므로 다른 스레드에서 실행된 SQL(비동기 해싱 후 저장, @Scheduled 반영 등)은 포함되지 않습니다.
+ * - 배치(executeBatch)는 DB 왕복 기준으로 1개로 셉니다.
+ */
+public final class SqlStatistics implements AutoCloseable {
+
+    // 요청 하나에서 따로 모을 쿼리 지문 수 (넘으면 문장 수와 시간만 셉니다)
+    private static final int MAX_FINGERPRINTS = 50;
+    private static final int MAX_FINGERPRINT_LENGTH = 200;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatistics parent;
+    private final Map<String, Integer> fingerprints = new LinkedHashMap<>();
+    private int statements;
+    private long nanos;
+
+    private SqlStatistics(SqlStatistics parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * 현재 스레드에서 새 구간을 시작합니다.
+     * @return 구간 통계 (close()로 종료)
+     */
+    public static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics(CURRENT.get());
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * @return 현재 스레드에서 열려 있는 가장 안쪽 구간 (없으면 null)
+     */
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 실행된 문장 기록 (열린 구간이 없으면 아무것도 하지 않습니다)
+     * @param sql 실행한 SQL
+     * @param elapsedNanos 실행 시간
+     */
+    public static void record(String sql, long elapsedNanos) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics == null) {
+            return;
+        }
+        String fingerprint = fingerprint(sql);
+        for (; statistics != null; statistics = statistics.parent) {
+            statistics.add(fingerprint, elapsedNanos);
+        }
+    }
+
+    /**
+     * 쿼리 지문: 리터럴을 ?로 바꾸고 IN (?, ?, ...) 목록과 공백을 줄여, 값만 다른 같은 쿼리를 하나로 묶습니다.
+     */
+    public static String fingerprint(String sql) {
+        if (sql == null) {
+            return "(unknown)";
+        }
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PARAMETER_LIST.matcher(normalized).replaceAll("(?...)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return normalized.length() > MAX_FINGERPRINT_LENGTH
+                ? normalized.substring(0, MAX_FINGERPRINT_LENGTH) + "..."
+                : normalized;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getTime(TimeUnit unit) {
+        return unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return 쿼리 지문 → 실행 횟수 (처음 실행된 순서)
+     */
+    public Map<String, Integer> getFingerprints() {
+        return Collections.unmodifiableMap(fingerprints);
+    }
+
+    /**
+     * @param limit 최대 개수
+     * @return 실행 횟수가 많은 쿼리 지문부터 "횟수x 지문" 형식으로
+     */
+    public List<String> topFingerprints(int limit) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(fingerprints.entrySet());
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        return entries.stream()
+                .limit(limit)
+                .map(entry -> entry.getValue() + "x " + entry.getKey())
+                .toList();
+    }
+
+    /**
+     * 구간 종료 (바깥 구간이 있으면 다시 바깥 구간으로 돌아갑니다)
+     */
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+
+    private void add(String fingerprint, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        if (fingerprints.containsKey(fingerprint) || fingerprints.size() < MAX_FINGERPRINTS) {
+            fingerprints.merge(fingerprint, 1, Integer::sum);
+        }
+    }
+}
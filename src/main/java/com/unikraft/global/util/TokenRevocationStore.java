@@ -0,0 +1,88 @@
+package com.unikraft.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 폐기 목록 (Token Revocation Store)
+ *
+ * [동작 방식]
+ * - 폐기된 토큰의 jti(토큰 고유 ID)와 만료 시각만 메모리에 보관합니다.
+ * - 조회는 ConcurrentHashMap 한 번이므로 O(1)이고, 요청마다 필터에서 확인해도 부담이 없습니다.
+ * - 토큰이 만료되면 어차피 서명 검증 단계에서 거절되므로, 만료 시각이 지난 항목은 주기적으로 지웁니다.
+ *   (목록 크기는 "지금 유효 기간 안에 있는 폐기 토큰 수"를 넘지 않습니다.)
+ *
+ * - 토큰 하나(jti)뿐 아니라 토큰 묶음(family, 로그인 한 번에서 이어지는 토큰들) 단위로도 폐기할 수 있습니다.
+ *
+ * [주의: JVM(인스턴스)마다 따로 있음]
+ * - 메모리에만 있으므로 서버를 재시작하면 목록이 비워집니다.
+ *   Access Token의 유효 기간을 짧게 두는 것으로 이 위험을 줄입니다.
+ * - 인스턴스끼리 목록을 공유하지 않습니다. 인스턴스가 2대 이상이면 한 인스턴스에서 로그아웃하거나 재사용이 탐지된 토큰도
+ *   다른 인스턴스에서는 통과하고, 같은 Refresh Token을 인스턴스마다 한 번씩 쓸 수 있습니다.
+ *   여러 인스턴스로 운영할 때는 Redis 같은 공유 저장소(SET jti PX 남은시간 NX)로 바꾸거나,
+ *   로드밸런서에서 인증 요청을 한 인스턴스로 고정해야 합니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰 폐기 (Revoke)
+     * @param jti 토큰 고유 ID
+     * @param expiresAtMillis 토큰 만료 시각 (이 시각 이후에는 목록에서 지워집니다)
+     * @return 이번 호출로 처음 폐기되었으면 true, 이미 폐기된 토큰이면 false
+     */
+    public boolean revoke(String jti, long expiresAtMillis) {
+        return revoked.putIfAbsent(jti, expiresAtMillis) == null;
+    }
+
+    /**
+     * 폐기 여부 확인 (O(1))
+     * @param jti 토큰 고유 ID
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String jti) {
+        return revoked.containsKey(jti);
+    }
+
+    /**
+     * 토큰 묶음 폐기 (Revoke Family)
+     * @param family 토큰 묶음 ID
+     * @param expiresAtMillis 묶음의 마지막 토큰이 만료되는 시각 (이 시각 이후에는 목록에서 지워집니다)
+     */
+    public void revokeFamily(String family, long expiresAtMillis) {
+        revokedFamilies.merge(family, expiresAtMillis, Math::max);
+    }
+
+    public boolean isFamilyRevoked(String family) {
+        return revokedFamilies.containsKey(family);
+    }
+
+    public int size() {
+        return revoked.size() + revokedFamilies.size();
+    }
+
+    /**
+     * 만료된 항목 정리 (Sweep)
+     * - 만료 시각이 지난 토큰은 서명 검증에서 이미 거절되므로 목록에 남겨 둘 필요가 없습니다.
+     */
+    @Scheduled(fixedDelayString = "${unikraft.jwt.revocation-sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        int before = size();
+        revoked.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+        revokedFamilies.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+
+        int removed = before - size();
+        if (removed > 0) {
+            log.debug("만료된 폐기 토큰 정리. removed={}, remaining={}", removed, size());
+        }
+    }
+}
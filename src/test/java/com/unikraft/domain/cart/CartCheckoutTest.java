@@ -0,0 +1,175 @@
+package com.unikraft.domain.cart;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.order.Order;
+import com.unikraft.domain.order.OrderRepository;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CartCheckoutTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void largeCartBecomesOneOrder() {
+        String loginId = newMember();
+        List<Long> productIds = fillCart(loginId, 120, 10);
+
+        Long orderId = cartService.checkout(loginId);
+
+        // 1. 주문 하나에 장바구니 120줄이 모두 담겨야 합니다.
+        Order order = orderRepository.findAllWithItemsByIdIn(List.of(orderId)).get(0);
+        assertThat(order.getOrderItems()).hasSize(120);
+
+        // 2. 재고는 담은 수량(2개)만큼 줄고, 장바구니는 비어 있어야 합니다.
+        assertThat(productRepository.findStockByIdIn(productIds))
+                .allSatisfy(stock -> assertThat(stock.getStockQuantity()).isEqualTo(8));
+        assertThat(cartService.findMyCart(loginId).getCartItems()).isEmpty();
+    }
+
+    @Test
+    void outOfStockRollsBackEverything() {
+        String loginId = newMember();
+        List<Long> productIds = fillCart(loginId, 5, 10);
+        Long soldOutId = productRepository.save(Product.builder().name("품절 상품").price(1000).stockQuantity(1).build()).getId();
+        cartService.addItem(loginId, soldOutId, 2);
+
+        assertThatThrownBy(() -> cartService.checkout(loginId))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 재고도 장바구니도 그대로여야 합니다.
+        assertThat(productRepository.findStockByIdIn(productIds))
+                .allSatisfy(stock -> assertThat(stock.getStockQuantity()).isEqualTo(10));
+        assertThat(cartService.findMyCart(loginId).getCartItems()).hasSize(6);
+    }
+
+    @Test
+    void roundTripsDoNotGrowWithCartSize() {
+        String small = newMember();
+        fillCart(small, 10, 10);
+        String large = newMember();
+        fillCart(large, 150, 10);
+
+        long smallQueries = countCheckoutQueries(small);
+        long largeQueries = countCheckoutQueries(large);
+
+        // 줄 수가 15배여도 늘어나는 것은 배치 INSERT 묶음 수와 시퀀스 조회 정도뿐이어야 합니다.
+        assertThat(largeQueries).isLessThanOrEqualTo(smallQueries + 6);
+    }
+
+    @Test
+    void cartWritesWaitForCheckoutLock() throws Exception {
+        String loginId = newMember();
+        Long teaId = fillCart(loginId, 1, 10).get(0);
+        Long cartId = cartRepository.findByMemberLoginId(loginId).orElseThrow().getId();
+
+        // 주문 트랜잭션처럼 장바구니 행을 잠근 채로 있는 동안, 같은 회원의 담기는 잠금이 풀릴 때까지 기다려야 합니다.
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> checkout = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> {
+                    cartRepository.findByMemberLoginIdForUpdate(loginId).orElseThrow();
+                    locked.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> add = CompletableFuture.runAsync(() -> cartService.addItem(loginId, teaId, 3));
+        Thread.sleep(300);
+        assertThat(add).isNotDone();
+
+        release.countDown();
+        checkout.get(10, TimeUnit.SECONDS);
+        add.get(10, TimeUnit.SECONDS);
+        assertThat(cartItemRepository.findByCartIdAndProductId(cartId, teaId))
+                .get().extracting(CartItem::getQuantity).isEqualTo(5);
+    }
+
+    private long countCheckoutQueries(String loginId) {
+        statistics.clear();
+        cartService.checkout(loginId);
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 상품을 lines개 만들어 2개씩 담습니다.
+    private List<Long> fillCart(String loginId, int lines, int stockQuantity) {
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            Long productId = productRepository.save(Product.builder()
+                    .name("장바구니 상품 " + i)
+                    .price(1000 + i)
+                    .stockQuantity(stockQuantity)
+                    .build()).getId();
+            cartService.addItem(loginId, productId, 2);
+            productIds.add(productId);
+        }
+        return productIds;
+    }
+
+    private String newMember() {
+        String loginId = "checkout" + SEQUENCE.incrementAndGet();
+        memberRepository.save(Member.builder()
+                .loginId(loginId)
+                .password("password")
+                .name("주문회원")
+                .email(loginId + "@test.com")
+                .build());
+        return loginId;
+    }
+}
@@ -0,0 +1,147 @@
+package com.unikraft.domain.cart;
+
+import com.unikraft.domain.cart.dto.CartResponse;
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.unikraft.global.util.SqlStatementAssertions.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class CartServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private String loginId;
+    private Long teaId;
+    private Long cakeId;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 새 회원 (장바구니가 비어 있는 상태에서 시작)
+        loginId = "cartuser" + SEQUENCE.incrementAndGet();
+        memberRepository.save(Member.builder()
+                .loginId(loginId)
+                .password("password")
+                .name("장바구니회원")
+                .email(loginId + "@test.com")
+                .build());
+        teaId = productRepository.save(Product.builder().name("녹차").price(3000).stockQuantity(10).build()).getId();
+        cakeId = productRepository.save(Product.builder().name("당근 케이크").price(7000).stockQuantity(1).build()).getId();
+    }
+
+    @Test
+    void addingSameProductMergesIntoOneLine() {
+        cartService.addItem(loginId, teaId, 2);
+        cartService.addItem(loginId, teaId, 3);
+
+        // 같은 상품은 한 줄로 합쳐지고 수량만 더해져야 합니다.
+        Long cartId = cartRepository.findByMemberLoginId(loginId).orElseThrow().getId();
+        assertThat(cartItemRepository.findByCartIdAndProductId(cartId, teaId))
+                .get().extracting(CartItem::getQuantity).isEqualTo(5);
+        assertThat(cartItemRepository.findAllWithProductByCartId(cartId)).hasSize(1);
+    }
+
+    @Test
+    void concurrentFirstAddsDoNotFailOnUniqueConstraints() throws Exception {
+        // 장바구니도 아이템도 없는 회원에게 같은 상품을 동시에 담습니다.
+        // 장바구니(member_id), 아이템((cart_id, product_id)) 유니크 제약에 부딪힌 요청은 다시 시도해 수량을 더해야 합니다.
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    cartService.addItem(loginId, teaId, 1);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Long cartId = cartRepository.findByMemberLoginId(loginId).orElseThrow().getId();
+        assertThat(cartItemRepository.findAllWithProductByCartId(cartId))
+                .singleElement().extracting(CartItem::getQuantity).isEqualTo(threads);
+    }
+
+    @Test
+    void totalsComeFromFetchedLines() throws Exception {
+        cartService.addItem(loginId, teaId, 2);
+        cartService.addItem(loginId, cakeId, 3);
+
+        // 장바구니 1번 + 아이템(상품 fetch join) 1번, 합계용 쿼리는 따로 나가지 않습니다.
+        CartResponse[] result = new CartResponse[1];
+        assertStatementCount(2, () -> result[0] = cartService.findMyCart(loginId));
+        CartResponse cart = result[0];
+
+        assertThat(cart.getCartItems()).hasSize(2);
+        assertThat(cart.getTotalQuantity()).isEqualTo(5);
+        assertThat(cart.getTotalPrice()).isEqualTo(3000L * 2 + 7000L * 3);
+        // 재고(1개)보다 많이 담은 상품은 재고 부족으로 표시됩니다.
+        assertThat(cart.getCartItems())
+                .filteredOn(item -> item.getProductId().equals(cakeId))
+                .singleElement()
+                .extracting(CartResponse.CartItemResponse::isStockAvailable).isEqualTo(false);
+    }
+
+    @Test
+    void changeRemoveAndClear() {
+        cartService.addItem(loginId, teaId, 2);
+        cartService.addItem(loginId, cakeId, 1);
+
+        cartService.changeQuantity(loginId, teaId, 4);
+        cartService.removeItem(loginId, cakeId);
+        assertThat(cartService.findMyCart(loginId).getTotalQuantity()).isEqualTo(4);
+
+        cartService.clear(loginId);
+        assertThat(cartService.findMyCart(loginId).getCartItems()).isEmpty();
+        assertThatThrownBy(() -> cartService.removeItem(loginId, teaId))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void memberWithoutCartSeesEmptyCart() {
+        CartResponse cart = cartService.findMyCart(loginId);
+
+        assertThat(cart.getCartItems()).isEmpty();
+        assertThat(cart.getTotalPrice()).isZero();
+    }
+}
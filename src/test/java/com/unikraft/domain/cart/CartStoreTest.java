@@ -0,0 +1,227 @@
+package com.unikraft.domain.cart;
+
+import com.unikraft.domain.cart.dto.CartResponse;
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.order.CheckoutResult;
+import com.unikraft.domain.order.OrderRepository;
+import com.unikraft.domain.order.OrderService;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모리 장바구니(Write-Behind) 테스트
+ * - 자동 반영 주기는 길게 잡고, flush()를 직접 호출해 반영 시점을 제어합니다.
+ */
+@SpringBootTest(properties = {
+        "unikraft.cart.write-behind.enabled=true",
+        "unikraft.cart.write-behind.flush-interval-ms=3600000",
+        "unikraft.cart.write-behind.max-carts=2",
+        "unikraft.cart.write-behind.max-failures=2"
+})
+class CartStoreTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private CartWriter cartWriter;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long teaId;
+
+    @BeforeEach
+    void setUp() {
+        cartStore.flush();
+        teaId = productRepository.save(Product.builder().name("보이차").price(5000).stockQuantity(100).build()).getId();
+    }
+
+    @Test
+    void clicksAreCoalescedUntilFlush() {
+        String loginId = newMember();
+        Long memberId = cartStore.memberIdOf(loginId);
+
+        // 1. 수량을 여러 번 바꿔도 DB에는 아직 아무것도 없어야 합니다.
+        for (int i = 0; i < 100; i++) {
+            cartService.addItem(loginId, teaId, 1);
+        }
+        assertThat(cartWriter.loadItems(memberId)).isEmpty();
+        assertThat(cartService.findMyCart(loginId).getTotalQuantity()).isEqualTo(100);
+
+        // 2. 반영하면 마지막 상태 하나만 저장됩니다.
+        cartStore.flush();
+        assertThat(cartWriter.loadItems(memberId)).containsExactly(Map.entry(teaId, 100));
+    }
+
+    @Test
+    void idleCartsAreEvictedToDatabaseAndReloaded() {
+        String first = newMember();
+        cartService.addItem(first, teaId, 3);
+        cartService.addItem(newMember(), teaId, 1);
+        cartService.addItem(newMember(), teaId, 1);
+
+        // 1. 장바구니가 max-carts(2)를 넘으면 반영 후 가장 오래 쓰지 않은 장바구니부터 내립니다.
+        cartStore.flush();
+        assertThat(cartStore.size()).isLessThanOrEqualTo(2);
+        assertThat(cartWriter.loadItems(cartStore.memberIdOf(first))).containsExactly(Map.entry(teaId, 3));
+
+        // 2. 내려간 장바구니는 다음 접근 때 DB에서 다시 읽어와 이어서 쓸 수 있어야 합니다.
+        cartService.addItem(first, teaId, 2);
+        CartResponse cart = cartService.findMyCart(first);
+        assertThat(cart.getTotalQuantity()).isEqualTo(5);
+        assertThat(cart.getTotalPrice()).isEqualTo(5000L * 5);
+    }
+
+    @Test
+    void shutdownPersistsPendingCarts() {
+        String loginId = newMember();
+        cartService.addItem(loginId, teaId, 7);
+        cartService.changeQuantity(loginId, teaId, 4);
+
+        // 정상 종료 시 호출되는 shutdown()이 남은 변경을 반영해야 합니다.
+        cartStore.shutdown();
+        assertThat(cartWriter.loadItems(cartStore.memberIdOf(loginId))).containsExactly(Map.entry(teaId, 4));
+    }
+
+    @Test
+    void checkoutFlushesPendingChangesAndEmptiesCart() {
+        String loginId = newMember();
+        Long memberId = cartStore.memberIdOf(loginId);
+        cartService.addItem(loginId, teaId, 2);
+        cartService.addItem(loginId, teaId, 1);
+
+        // 아직 DB에 반영되지 않은 변경도 주문 전에 반영되어 주문에 들어가야 합니다.
+        Long orderId = cartService.checkout(loginId);
+
+        assertThat(orderRepository.findById(orderId)).isPresent();
+        assertThat(productRepository.findById(teaId).orElseThrow().getStockQuantity()).isEqualTo(97);
+        assertThat(cartService.findMyCart(loginId).getCartItems()).isEmpty();
+        cartStore.flush();
+        assertThat(cartWriter.loadItems(memberId)).isEmpty();
+    }
+
+    @Test
+    void itemsAddedWhileCheckingOutAreKept() {
+        String loginId = newMember();
+        Long memberId = cartStore.memberIdOf(loginId);
+        Long cakeId = productRepository.save(Product.builder().name("월병").price(4000).stockQuantity(10).build()).getId();
+        cartService.addItem(loginId, teaId, 2);
+
+        // CartService.checkout()의 단계를 나눠 실행하고, 반영과 주문 사이에 다른 요청이 담은 것처럼 끼워 넣습니다.
+        cartStore.flush(memberId);
+        cartService.addItem(loginId, cakeId, 1);
+        cartService.addItem(loginId, teaId, 3);
+        CheckoutResult result = orderService.checkout(loginId);
+        cartStore.removeCheckedOut(memberId, result.orderedQuantities());
+
+        // 주문한 수량(보이차 2개)만 빠지고, 반영 이후에 담은 것은 남아야 합니다.
+        assertThat(cartStore.getItems(memberId)).containsExactly(Map.entry(teaId, 3), Map.entry(cakeId, 1));
+        cartStore.flush();
+        assertThat(cartWriter.loadItems(memberId)).containsOnly(Map.entry(teaId, 3), Map.entry(cakeId, 1));
+    }
+
+    @Test
+    void linesOrderedFromDatabaseAreNotResurrected() {
+        String loginId = newMember();
+        Long memberId = cartStore.memberIdOf(loginId);
+        Long cakeId = productRepository.save(Product.builder().name("월병").price(4000).stockQuantity(10).build()).getId();
+
+        // 1. 메모리에 올라오지 않은 장바구니라 반영할 것이 없어도, 주문은 DB에 있던 보이차 2개를 담습니다.
+        cartWriter.saveCart(memberId, Map.of(teaId, 2));
+        cartStore.flush(memberId);
+        cartService.addItem(loginId, cakeId, 1);
+        CheckoutResult result = orderService.checkout(loginId);
+        cartStore.removeCheckedOut(memberId, result.orderedQuantities());
+
+        // 2. 주문된 보이차는 메모리에서도 빠져, 다음 반영 때 DB에 되살아나지 않아야 합니다.
+        assertThat(result.orderedQuantities()).containsExactly(Map.entry(teaId, 2));
+        assertThat(cartStore.getItems(memberId)).containsExactly(Map.entry(cakeId, 1));
+        cartStore.flush();
+        assertThat(cartWriter.loadItems(memberId)).containsExactly(Map.entry(cakeId, 1));
+    }
+
+    @Test
+    void failingCartIsQuarantinedWithoutBlockingOthers() {
+        String broken = newMember();
+        String healthy = newMember();
+        Long brokenId = cartStore.memberIdOf(broken);
+        Long healthyId = cartStore.memberIdOf(healthy);
+        Long missingProductId = Long.MAX_VALUE;
+
+        // 없는 상품(FK 위반)이 담긴 장바구니는 반영에 실패하지만, 다른 장바구니는 반영되어야 합니다.
+        cartStore.addItem(brokenId, missingProductId, 1);
+        cartService.addItem(healthy, teaId, 4);
+        cartStore.flush();
+        assertThat(cartWriter.loadItems(healthyId)).containsExactly(Map.entry(teaId, 4));
+        assertThat(cartStore.quarantinedCount()).isZero();
+
+        // max-failures(2)번 연속 실패하면 격리합니다.
+        cartStore.flush();
+        assertThat(cartStore.quarantinedCount()).isEqualTo(1);
+
+        // 회원이 장바구니를 고치면 격리가 풀리고 다시 반영됩니다.
+        cartStore.removeItem(brokenId, missingProductId);
+        cartStore.addItem(brokenId, teaId, 1);
+        cartStore.flush();
+        assertThat(cartStore.quarantinedCount()).isZero();
+        assertThat(cartWriter.loadItems(brokenId)).containsExactly(Map.entry(teaId, 1));
+    }
+
+    @Test
+    void shutdownRetriesQuarantinedCarts() {
+        String loginId = newMember();
+        Long memberId = cartStore.memberIdOf(loginId);
+        Long lateProductId = Long.MAX_VALUE - 1;
+
+        // 1. 아직 없는 상품이 담겨 두 번 실패하면 격리됩니다.
+        cartStore.addItem(memberId, lateProductId, 2);
+        cartStore.flush();
+        cartStore.flush();
+        assertThat(cartStore.quarantinedCount()).isEqualTo(1);
+
+        // 2. 원인이 해소된 뒤 종료하면 격리된 장바구니도 한 번 더 반영을 시도해야 합니다.
+        jdbcTemplate.update("insert into product (id, name, price, stock_quantity, version) values (?, '늦게 등록된 상품', 1000, 10, 0)", lateProductId);
+        cartStore.shutdown();
+        assertThat(cartWriter.loadItems(memberId)).containsExactly(Map.entry(lateProductId, 2));
+    }
+
+    private String newMember() {
+        String loginId = "storeuser" + SEQUENCE.incrementAndGet();
+        memberRepository.save(Member.builder()
+                .loginId(loginId)
+                .password("password")
+                .name("메모리장바구니")
+                .email(loginId + "@test.com")
+                .build());
+        return loginId;
+    }
+}
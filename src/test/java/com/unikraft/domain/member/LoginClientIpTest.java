@@ -0,0 +1,47 @@
+package com.unikraft.domain.member;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 요청 IP 확인
+ * - 내부망 프록시(여기서는 127.0.0.1)를 거친 요청은 X-Forwarded-For의 IP로 시도 횟수를 셉니다. (server.forward-headers-strategy)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoginClientIpTest {
+
+    private static final int IP_LIMIT = 30;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void ipLimitIsAppliedPerForwardedClientIp() {
+        // 1. 한 클라이언트 IP의 시도 한도를 모두 씁니다. (없는 아이디라 해싱 없이 실패)
+        for (int i = 0; i < IP_LIMIT; i++) {
+            assertThat(login("203.0.113.7", "nobody" + i)).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        assertThat(login("203.0.113.7", "nobody")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        // 2. 같은 프록시를 거쳐도 다른 클라이언트 IP는 막히지 않습니다.
+        assertThat(login("198.51.100.9", "nobody")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private HttpStatusCode login(String clientIp, String loginId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", clientIp);
+        return restTemplate.postForEntity("/api/members/login",
+                new HttpEntity<>(Map.of("loginId", loginId, "password", "wrong-password"), headers), String.class)
+                .getStatusCode();
+    }
+}
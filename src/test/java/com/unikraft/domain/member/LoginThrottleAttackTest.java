@@ -0,0 +1,152 @@
+package com.unikraft.domain.member;
+
+import com.unikraft.global.error.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 공격 시뮬레이터
+ * - 여러 스레드에서 로그인 요청을 쏟아부어, 한도를 넘은 시도가 BCrypt 비교 전에 거절되는지 확인합니다.
+ */
+@SpringBootTest
+class LoginThrottleAttackTest {
+
+    private static final int ATTACKERS = 32;
+    private static final int ATTEMPTS_PER_ATTACKER = 200;
+    private static final int ACCOUNT_FAILURE_LIMIT = 20;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.clearInvocations(passwordEncoder);
+    }
+
+    @Test
+    void credentialStuffingOnOneLoginIdHashesAtMostAccountFailureLimit() throws Exception {
+        memberService.signUp("victim01", "correct-password", "피해자", "victim01@test.com").join();
+        memberService.login("victim01", "correct-password", "172.16.0.1").join();
+        Mockito.clearInvocations(passwordEncoder);
+
+        // 1. 공격자마다 다른 IP에서 같은 아이디로 틀린 비밀번호를 대입합니다.
+        AtomicInteger throttled = runAttack(attacker -> "victim01", attacker -> "10.0.0." + attacker);
+
+        // 2. 실제 BCrypt 비교는 아이디별 실패 한도(20회)를 넘지 않아야 합니다.
+        verify(passwordEncoder, atMost(ACCOUNT_FAILURE_LIMIT)).matches(any(), any());
+        assertThat(throttled.get()).isGreaterThanOrEqualTo(ATTACKERS * ATTEMPTS_PER_ATTACKER - ACCOUNT_FAILURE_LIMIT);
+
+        // 3. 아이디가 잠기면 처음 보는 곳에서는 막히지만, 로그인에 성공한 적 있는 곳에서는 계속 로그인할 수 있습니다.
+        assertThatThrownBy(() -> memberService.login("victim01", "correct-password", "172.16.0.2"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(memberService.login("victim01", "correct-password", "172.16.0.1").join().getAccessToken()).isNotBlank();
+    }
+
+    @Test
+    void failuresFromOneIpDoNotLockOutTheOwnerElsewhere() {
+        memberService.signUp("victim02", "correct-password", "피해자", "victim02@test.com").join();
+
+        // 1. 한 IP에서 (아이디, IP)별 실패 한도(5회)를 넘기면 그 IP만 막힙니다.
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> memberService.login("victim02", "wrong-password", "10.1.0.1").join())
+                    .isInstanceOf(CompletionException.class);
+        }
+        assertThatThrownBy(() -> memberService.login("victim02", "correct-password", "10.1.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // 2. 처음 쓰는 다른 IP에서도 회원 본인은 로그인할 수 있습니다.
+        assertThat(memberService.login("victim02", "correct-password", "10.1.0.2").join().getAccessToken()).isNotBlank();
+    }
+
+    @Test
+    void sprayingManyLoginIdsFromOneIpIsCutOffByIpLimit() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+
+        // 1. 한 IP에서 매번 다른 아이디로 시도합니다.
+        AtomicInteger throttled = runAttack(attacker -> "spray" + sequence.incrementAndGet(), attacker -> "192.168.0.1");
+
+        // 2. IP별 시도 한도(30회)만 통과하고 나머지는 모두 거절되어야 합니다.
+        assertThat(throttled.get()).isGreaterThanOrEqualTo(ATTACKERS * ATTEMPTS_PER_ATTACKER - 30);
+    }
+
+    @Test
+    void weakerStoredHashIsUpgradedOnSuccessfulLogin() {
+        memberRepository.save(Member.builder()
+                .loginId("legacy01")
+                .password(new BCryptPasswordEncoder(4).encode("legacy-password"))
+                .name("예전회원")
+                .email("legacy01@test.com")
+                .build());
+
+        memberService.login("legacy01", "legacy-password", "127.0.0.1").join();
+
+        // 설정된 강도(10)로 다시 암호화되어 저장되어야 합니다.
+        String upgraded = memberRepository.findByLoginId("legacy01").orElseThrow().getPassword();
+        assertThat(upgraded).startsWith("$2a$10$");
+        assertThat(passwordEncoder.matches("legacy-password", upgraded)).isTrue();
+    }
+
+    private AtomicInteger runAttack(AttemptSource loginIds, AttemptSource ips) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(ATTACKERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger throttled = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < ATTACKERS; i++) {
+            int attacker = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < ATTEMPTS_PER_ATTACKER; j++) {
+                    try {
+                        memberService.login(loginIds.next(attacker), "wrong-password", ips.next(attacker)).join();
+                    } catch (TooManyRequestsException e) {
+                        throttled.incrementAndGet();
+                    } catch (IllegalArgumentException | CompletionException e) {
+                        // 아이디 없음 / 비밀번호 불일치
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        return throttled;
+    }
+
+    @FunctionalInterface
+    private interface AttemptSource {
+        String next(int attacker);
+    }
+}
@@ -0,0 +1,78 @@
+package com.unikraft.domain.member;
+
+import com.unikraft.domain.member.dto.TokenResponse;
+import com.unikraft.global.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class MemberTokenRotationTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void refreshTokenCanBeUsedOnlyOnce() {
+        TokenResponse login = memberService.login("testuser", "1234", null).join();
+
+        // 1. Refresh Token으로 새 토큰 쌍을 받습니다.
+        TokenResponse refreshed = memberService.refresh(login.getRefreshToken());
+        assertThat(jwtUtil.verify(refreshed.getAccessToken())).contains("testuser");
+
+        // 2. 새로 받은 Refresh Token은 사용할 수 있습니다.
+        TokenResponse rotated = memberService.refresh(refreshed.getRefreshToken());
+        assertThat(jwtUtil.verify(rotated.getAccessToken())).contains("testuser");
+    }
+
+    @Test
+    void reusedRefreshTokenRevokesTheWholeTokenFamily() {
+        TokenResponse login = memberService.login("testuser", "1234", null).join();
+        TokenResponse other = memberService.login("testuser", "1234", null).join();
+        TokenResponse refreshed = memberService.refresh(login.getRefreshToken());
+        assertThat(jwtUtil.verify(refreshed.getAccessToken())).contains("testuser");
+
+        // 1. 이미 사용한 Refresh Token은 다시 쓸 수 없습니다. (재사용 탐지)
+        assertThatThrownBy(() -> memberService.refresh(login.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 2. 같은 로그인에서 이어진 토큰(재발급된 Access/Refresh Token)도 모두 폐기됩니다.
+        assertThat(jwtUtil.verify(refreshed.getAccessToken())).isEmpty();
+        assertThatThrownBy(() -> memberService.refresh(refreshed.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 3. 다른 로그인의 토큰은 영향을 받지 않습니다.
+        assertThat(jwtUtil.verify(other.getAccessToken())).contains("testuser");
+        assertThat(memberService.refresh(other.getRefreshToken()).getAccessToken()).isNotBlank();
+    }
+
+    @Test
+    void tokensCannotBeUsedInPlaceOfEachOther() {
+        TokenResponse login = memberService.login("testuser", "1234", null).join();
+
+        assertThat(jwtUtil.verify(login.getRefreshToken())).isEmpty();
+        assertThatThrownBy(() -> memberService.refresh(login.getAccessToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void logoutRevokesCachedAccessTokenAndRefreshToken() {
+        TokenResponse login = memberService.login("testuser", "1234", null).join();
+
+        // 1. 한 번 검증하여 검증 캐시에 올려 둡니다.
+        assertThat(jwtUtil.verify(login.getAccessToken())).contains("testuser");
+
+        memberService.logout(login.getAccessToken(), login.getRefreshToken());
+
+        // 2. 캐시에 있어도 폐기된 토큰은 거절되어야 합니다.
+        assertThat(jwtUtil.verify(login.getAccessToken())).isEmpty();
+        assertThatThrownBy(() -> memberService.refresh(login.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
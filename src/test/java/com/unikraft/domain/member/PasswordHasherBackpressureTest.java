@@ -0,0 +1,72 @@
+package com.unikraft.domain.member;
+
+import com.unikraft.global.error.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 해싱 스레드 풀 검증
+ * - 해싱이 끝난 뒤 이어지는 작업(회원 저장 등)이 해싱 스레드에서 실행되지 않는지,
+ * - 대기열이 가득 차 503으로 거절된 로그인이 시도 한도(429)에 세어지지 않는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "unikraft.security.hashing.threads=1",
+        "unikraft.security.hashing.queue-capacity=1"
+})
+class PasswordHasherBackpressureTest {
+
+    private static final int FAILURE_LIMIT = 5;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private MemberService memberService;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void continuationsDoNotRunOnHashingThreads() {
+        String thread = passwordHasher.encode("continuation")
+                .thenApply(encoded -> Thread.currentThread().getName())
+                .join();
+
+        assertThat(thread).doesNotStartWith("password-hasher-");
+    }
+
+    @Test
+    void rejectedLoginsAreNotCountedAgainstTheFailureLimit() throws Exception {
+        // 1. 해싱 스레드 1개와 대기열 1칸을 모두 채웁니다.
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encode(eq("blocker"));
+        CompletableFuture<String> running = passwordHasher.encode("blocker");
+        CompletableFuture<String> queued = passwordHasher.encode("blocker");
+
+        // 2. 그동안 들어온 로그인은 실패 한도보다 많이 거절되어도 모두 503입니다. (429가 아님)
+        for (int i = 0; i < FAILURE_LIMIT * 2; i++) {
+            assertThatThrownBy(() -> memberService.login("testuser", "1234", "10.9.0.1"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        }
+
+        // 3. 대기열이 비면 같은 곳에서 바로 로그인할 수 있습니다.
+        release.countDown();
+        CompletableFuture.allOf(running, queued).get(10, TimeUnit.SECONDS);
+        assertThat(memberService.login("testuser", "1234", "10.9.0.1").join().getAccessToken()).isNotBlank();
+    }
+}
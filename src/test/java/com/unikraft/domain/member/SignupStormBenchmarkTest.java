@@ -0,0 +1,105 @@
+package com.unikraft.domain.member;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원가입 폭주 중 상품 조회 지연 벤치마크
+ * - 회원가입 요청을 계속 보내는 동안 GET /api/products/{id}의 p50/p99를 측정합니다.
+ * - 해싱이 전용 스레드 풀에서 실행되므로 Tomcat 요청 스레드는 상품 조회를 계속 처리할 수 있어야 합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SignupStormBenchmarkTest {
+
+    private static final int CATALOG_REQUESTS = 5_000;
+    private static final int SIGNUP_CLIENTS = 64;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void catalogLatencyDuringSignupStorm() throws Exception {
+        // 1. 기준선: 회원가입 부하 없이 측정
+        long[] baseline = measureCatalog();
+
+        // 2. 회원가입 폭주 중 측정
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger sequence = new AtomicInteger();
+        Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+        ExecutorService storm = Executors.newFixedThreadPool(SIGNUP_CLIENTS);
+        for (int i = 0; i < SIGNUP_CLIENTS; i++) {
+            storm.submit(() -> {
+                while (running.get()) {
+                    int n = sequence.incrementAndGet();
+                    String body = String.format(
+                            "{\"loginId\":\"storm%d\",\"password\":\"password%d\",\"name\":\"부하\",\"email\":\"storm%d@test.com\"}",
+                            n, n, n);
+                    HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri("/api/members/signup"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build(), HttpResponse.BodyHandlers.discarding());
+                    statuses.computeIfAbsent(response.statusCode(), k -> new AtomicInteger()).incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        long[] duringStorm;
+        try {
+            duringStorm = measureCatalog();
+        } finally {
+            running.set(false);
+            storm.shutdown();
+            storm.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        System.out.printf("[회원가입 폭주 벤치마크] GET /api/products/{id} p50/p99 - 기준: %.3f/%.3f ms, 폭주 중: %.3f/%.3f ms, 회원가입 응답 코드: %s%n",
+                percentile(baseline, 50), percentile(baseline, 99),
+                percentile(duringStorm, 50), percentile(duringStorm, 99),
+                statuses);
+    }
+
+    private long[] measureCatalog() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/products/1")).GET().build();
+
+        // JIT 워밍업
+        for (int i = 0; i < 500; i++) {
+            httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        long[] latencies = new long[CATALOG_REQUESTS];
+        for (int i = 0; i < CATALOG_REQUESTS; i++) {
+            long start = System.nanoTime();
+            httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static double percentile(long[] sortedLatencies, int percentile) {
+        return sortedLatencies[sortedLatencies.length * percentile / 100 - 1] / 1e6;
+    }
+}
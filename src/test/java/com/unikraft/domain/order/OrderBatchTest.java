@@ -0,0 +1,116 @@
+package com.unikraft.domain.order;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.order.dto.OrderItemRequest;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderBatchTest {
+
+    private static final String LOGIN_ID = "batchbuyer";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long teaId;
+    private Long cakeId;
+
+    @BeforeEach
+    void setUp() {
+        if (memberRepository.findByLoginId(LOGIN_ID).isEmpty()) {
+            memberRepository.save(Member.builder()
+                    .name("일괄손님")
+                    .loginId(LOGIN_ID)
+                    .email("batch@test.com")
+                    .password("password")
+                    .build());
+        }
+        teaId = productRepository.save(Product.builder().name("보이차").price(3000).stockQuantity(10).build()).getId();
+        cakeId = productRepository.save(Product.builder().name("당근 케이크").price(6000).stockQuantity(1).build()).getId();
+    }
+
+    @Test
+    void duplicateProductIdsAreMergedIntoOneLine() {
+        Long orderId = orderService.createOrder(LOGIN_ID, List.of(
+                new OrderItemRequest(teaId, 2),
+                new OrderItemRequest(teaId, 3)));
+
+        // 같은 상품은 수량을 합쳐 주문 상품 한 줄로 저장되고, 재고도 합친 수량만큼 한 번 차감됩니다.
+        assertThat(jdbcTemplate.queryForList("select count from order_item where order_id = ?", Integer.class, orderId))
+                .containsExactly(5);
+        assertThat(stockOf(teaId)).isEqualTo(5);
+    }
+
+    @Test
+    void stockOutOnOneProductRollsBackTheWholeOrder() {
+        long ordersBefore = orderRepository.count();
+
+        // 보이차는 재고가 충분하지만 케이크는 1개뿐이라 주문 전체가 실패해야 합니다.
+        assertThatThrownBy(() -> orderService.createOrder(LOGIN_ID, List.of(
+                new OrderItemRequest(teaId, 4),
+                new OrderItemRequest(cakeId, 2))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("재고가 부족합니다");
+
+        // 먼저 차감된 보이차 재고도 롤백되고, 주문은 저장되지 않습니다.
+        assertThat(stockOf(teaId)).isEqualTo(10);
+        assertThat(stockOf(cakeId)).isEqualTo(1);
+        assertThat(orderRepository.count()).isEqualTo(ordersBefore);
+    }
+
+    @Test
+    void tooManyLinesAreRejected() throws Exception {
+        String items = IntStream.range(0, OrderService.MAX_BATCH_ITEMS + 1)
+                .mapToObj(i -> "{\"productId\":" + teaId + ",\"count\":1}")
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(post("/api/orders/batch")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(LOGIN_ID, null, List.of())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orderItems\":[" + items + "]}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(stockOf(teaId)).isEqualTo(10);
+    }
+
+    private int stockOf(Long productId) {
+        return jdbcTemplate.queryForObject("select stock_quantity from product where id = ?", Integer.class, productId);
+    }
+}
@@ -0,0 +1,74 @@
+package com.unikraft.domain.order;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderBulkInsertBenchmarkTest {
+
+    private static final int ORDERS = 100_000;
+    private static final int FLUSH_SIZE = 50;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void compareInsertWithAndWithoutJdbcBatching() {
+        Long memberId = memberRepository.findByLoginId("testuser").orElseThrow().getId();
+        Long productId = productRepository.save(Product.builder()
+                .name("벤치마크 상품")
+                .price(1000)
+                .stockQuantity(1_000_000)
+                .build()).getId();
+
+        // 1. 배치 없이: 행마다 INSERT를 1번씩 보냅니다. (IDENTITY 전략을 쓰던 때와 같은 왕복 수)
+        long withoutBatching = insertOrders(memberId, productId, 1);
+
+        // 2. 배치 사용: 시퀀스로 ID를 미리 받고 hibernate.jdbc.batch_size 단위로 묶어 보냅니다.
+        long withBatching = insertOrders(memberId, productId, null);
+
+        System.out.printf("[주문 대량 저장 벤치마크] 주문 %,d건 (주문 상품 포함 %,d행) - 배치 없음: %,d ms, 배치 사용: %,d ms%n",
+                ORDERS, ORDERS * 2, withoutBatching, withBatching);
+    }
+
+    private long insertOrders(Long memberId, Long productId, Integer jdbcBatchSize) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = em.unwrap(Session.class);
+            session.setJdbcBatchSize(jdbcBatchSize);
+
+            for (int i = 1; i <= ORDERS; i++) {
+                Member member = em.getReference(Member.class, memberId);
+                Product product = em.getReference(Product.class, productId);
+                em.persist(Order.createOrder(member, OrderItem.createOrderItem(product, 1000, 1)));
+
+                // 영속성 컨텍스트가 커지지 않도록 주기적으로 비웁니다.
+                if (i % FLUSH_SIZE == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+        });
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,115 @@
+package com.unikraft.domain.order;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.order.dto.OrderPageResponse;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderQueryCountTest {
+
+    private static final String LOGIN_ID = "heavybuyer";
+    private static final int PAGE_SIZE = 7;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long teaId;
+    private Long cakeId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        if (memberRepository.findByLoginId(LOGIN_ID).isEmpty()) {
+            memberRepository.save(Member.builder()
+                    .name("단골손님")
+                    .loginId(LOGIN_ID)
+                    .email("heavy@test.com")
+                    .password("password")
+                    .build());
+        }
+        teaId = productRepository.save(Product.builder().name("홍차").price(3000).stockQuantity(10_000).build()).getId();
+        cakeId = productRepository.save(Product.builder().name("치즈 케이크").price(6000).stockQuantity(10_000).build()).getId();
+    }
+
+    @Test
+    void findMyOrdersQueryCountDoesNotGrowWithOrders() {
+        // 1. 주문 2건일 때의 쿼리 수
+        placeOrders(1);
+        long queriesForFewOrders = countQueries();
+
+        // 2. 주문 60건일 때의 쿼리 수
+        placeOrders(29);
+        long queriesForManyOrders = countQueries();
+
+        // 3. 주문 수와 관계없이 주문 ID 조회 + 주문 상세 조회로 끝나야 합니다. (N+1 없음, 회원/장바구니 조회 없음)
+        assertThat(queriesForManyOrders).isEqualTo(queriesForFewOrders);
+        assertThat(queriesForManyOrders).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void deepPageCostsTheSameAsFirstPage() {
+        placeOrders(30);
+
+        // 1. 커서를 따라 끝까지 페이지를 넘기며 페이지마다 쿼리 수를 잽니다.
+        Set<Long> seen = new HashSet<>();
+        Set<Long> queryCounts = new HashSet<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+            OrderPageResponse page = orderService.findMyOrders(LOGIN_ID, cursor, PAGE_SIZE);
+            queryCounts.add(statistics.getPrepareStatementCount());
+
+            page.getOrders().forEach(order -> assertThat(seen.add(order.getId())).isTrue());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // 2. 모든 주문을 중복 없이 한 번씩 받고, 어느 페이지든 쿼리 수가 같아야 합니다.
+        assertThat(seen).hasSize(orderRepository.findAllByMemberId(memberId()).size());
+        assertThat(queryCounts).hasSize(1);
+    }
+
+    private void placeOrders(int orders) {
+        for (int i = 0; i < orders; i++) {
+            orderService.createOrder(LOGIN_ID, teaId, 1);
+            orderService.createOrder(LOGIN_ID, cakeId, 2);
+        }
+    }
+
+    private long countQueries() {
+        statistics.clear();
+        assertThat(orderService.findMyOrders(LOGIN_ID, null, PAGE_SIZE).getOrders()).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long memberId() {
+        return memberRepository.findByLoginId(LOGIN_ID).orElseThrow().getId();
+    }
+}
@@ -0,0 +1,80 @@
+package com.unikraft.domain.order;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderServiceConcurrencyTest {
+
+    private static final int BUYERS = 64;
+    private static final int STOCK = 40;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void concurrentBuyersNeverOversell() throws InterruptedException {
+        // 1. 재고 40개인 상품과 구매자 64명을 준비합니다.
+        Product product = productRepository.save(Product.builder()
+                .name("한정판 말차")
+                .price(10000)
+                .stockQuantity(STOCK)
+                .build());
+
+        for (int i = 0; i < BUYERS; i++) {
+            memberRepository.save(Member.builder()
+                    .name("구매자" + i)
+                    .loginId("buyer" + i)
+                    .email("buyer" + i + "@test.com")
+                    .password("password")
+                    .build());
+        }
+
+        // 2. 64명이 동시에 1개씩 주문합니다.
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+
+        for (int i = 0; i < BUYERS; i++) {
+            String loginId = "buyer" + i;
+            executor.submit(() -> {
+                start.await();
+                try {
+                    orderService.createOrder(loginId, product.getId(), 1);
+                    succeeded.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        // 3. 재고만큼만 주문이 성공하고, 남은 재고는 정확히 0이어야 합니다.
+        assertThat(succeeded.get()).isEqualTo(STOCK);
+        assertThat(rejected.get()).isEqualTo(BUYERS - STOCK);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isZero();
+    }
+}
@@ -0,0 +1,72 @@
+package com.unikraft.domain.product;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductCacheBenchmarkTest {
+
+    private static final int REQUESTS = 20_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Test
+    void compareProductDetailLatencyWithAndWithoutCache() throws Exception {
+        Long productId = productRepository.save(Product.builder()
+                .name("벤치마크 녹차")
+                .price(5000)
+                .stockQuantity(100)
+                .build()).getId();
+
+        // 1. 캐시 없이: 매 요청 전에 캐시를 비워 항상 DB를 조회하게 합니다.
+        long[] withoutCache = measure(productId, true);
+
+        // 2. 캐시 사용: 첫 요청 이후에는 캐시에서 응답합니다. (재고는 stock-ttl 마다 다시 조회)
+        long[] withCache = measure(productId, false);
+
+        System.out.printf("[상품 캐시 벤치마크] GET /api/products/{id} p50/p99 - 캐시 없음: %.3f/%.3f ms, 캐시 사용: %.3f/%.3f ms%n",
+                percentile(withoutCache, 50), percentile(withoutCache, 99),
+                percentile(withCache, 50), percentile(withCache, 99));
+    }
+
+    private long[] measure(Long productId, boolean bypassCache) throws Exception {
+        // JIT 워밍업
+        for (int i = 0; i < 2_000; i++) {
+            mockMvc.perform(get("/api/products/{id}", productId)).andExpect(status().isOk());
+        }
+
+        long[] latencies = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            if (bypassCache) {
+                productCache.invalidateAll();
+            }
+            long start = System.nanoTime();
+            mockMvc.perform(get("/api/products/{id}", productId)).andExpect(status().isOk());
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static double percentile(long[] sortedLatencies, int percentile) {
+        return sortedLatencies[sortedLatencies.length * percentile / 100 - 1] / 1e6;
+    }
+}
@@ -0,0 +1,141 @@
+package com.unikraft.domain.product;
+
+import com.unikraft.domain.product.dto.ProductCatalogCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class ProductCatalogRepositoryTest {
+
+    // 다른 테스트/초기 데이터와 섞이지 않도록 이 테스트만 쓰는 가격대
+    private static final int BASE_PRICE = 7_770_000;
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCategoryRepository productCategoryRepository;
+
+    private String categoryName;
+    private List<Product> inCategory;
+    private List<Product> all;
+
+    @BeforeEach
+    void setUp() {
+        categoryName = "CATALOG-" + UUID.randomUUID();
+        ProductCategory category = productCategoryRepository.save(new ProductCategory(categoryName));
+        ProductCategory other = productCategoryRepository.save(new ProductCategory(categoryName + "-OTHER"));
+
+        // 가격 동점(+100 두 개, +300 두 개)과 품절 상품을 섞어 커서가 동점 경계를 넘는지 확인합니다.
+        inCategory = List.of(
+                save("A", BASE_PRICE + 300, 5, category),
+                save("B", BASE_PRICE + 100, 0, category),
+                save("C", BASE_PRICE + 200, 3, category),
+                save("D", BASE_PRICE + 100, 7, category),
+                save("E", BASE_PRICE + 500, 1, category),
+                save("F", BASE_PRICE + 300, 0, category));
+        all = new ArrayList<>(inCategory);
+        all.add(save("G", BASE_PRICE + 150, 2, other));
+        all.add(save("H", BASE_PRICE + 400, 9, other));
+    }
+
+    @Test
+    void newestWithCategoryPagesByIdDescending() {
+        assertPagedResult(condition(ProductSort.NEWEST).categoryName(categoryName),
+                expected(inCategory, p -> true, ProductSort.NEWEST));
+    }
+
+    @Test
+    void priceAscendingCrossesTiesWithCursor() {
+        assertPagedResult(condition(ProductSort.PRICE_ASC).categoryName(categoryName),
+                expected(inCategory, p -> true, ProductSort.PRICE_ASC));
+    }
+
+    @Test
+    void priceDescendingCrossesTiesWithCursor() {
+        assertPagedResult(condition(ProductSort.PRICE_DESC).categoryName(categoryName),
+                expected(inCategory, p -> true, ProductSort.PRICE_DESC));
+    }
+
+    @Test
+    void inStockOnlyExcludesSoldOutProducts() {
+        for (ProductSort sort : ProductSort.values()) {
+            assertPagedResult(condition(sort).categoryName(categoryName).inStockOnly(true),
+                    expected(inCategory, p -> p.getStockQuantity() > 0, sort));
+        }
+    }
+
+    @Test
+    void priceRangeWithoutCategorySpansCategories() {
+        int min = BASE_PRICE + 100;
+        int max = BASE_PRICE + 400;
+        Predicate<Product> inRange = p -> p.getPrice() >= min && p.getPrice() <= max;
+
+        for (ProductSort sort : ProductSort.values()) {
+            assertPagedResult(condition(sort).minPrice(min).maxPrice(max),
+                    expected(all, inRange, sort));
+        }
+    }
+
+    @Test
+    void allFiltersCombined() {
+        int min = BASE_PRICE + 150;
+        Predicate<Product> filter = p -> p.getPrice() >= min && p.getStockQuantity() > 0;
+
+        for (ProductSort sort : ProductSort.values()) {
+            assertPagedResult(condition(sort).categoryName(categoryName).minPrice(min).maxPrice(BASE_PRICE + 1000).inStockOnly(true),
+                    expected(inCategory, filter, sort));
+        }
+    }
+
+    // 커서를 따라 끝까지 읽은 결과가 기대한 순서와 정확히 같아야 합니다. (누락/중복 없음)
+    private void assertPagedResult(ProductCatalogCondition.ProductCatalogConditionBuilder builder, List<Long> expectedIds) {
+        ProductCatalogCondition condition = builder.limit(PAGE_SIZE).build();
+        List<Long> actualIds = new ArrayList<>();
+        ProductCursor cursor = null;
+        while (true) {
+            List<Product> page = productRepository.findCatalog(condition, cursor, PAGE_SIZE);
+            page.forEach(product -> actualIds.add(product.getId()));
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            cursor = ProductCursor.decode(ProductCursor.of(page.get(page.size() - 1)).encode());
+        }
+        assertThat(actualIds).as("sort=%s", condition.getSort()).isEqualTo(expectedIds);
+    }
+
+    private static ProductCatalogCondition.ProductCatalogConditionBuilder condition(ProductSort sort) {
+        return ProductCatalogCondition.builder().sort(sort);
+    }
+
+    private static List<Long> expected(List<Product> products, Predicate<Product> filter, ProductSort sort) {
+        Comparator<Product> order = switch (sort) {
+            case NEWEST -> Comparator.comparing(Product::getId).reversed();
+            case PRICE_ASC -> Comparator.comparingInt(Product::getPrice).thenComparing(Product::getId);
+            case PRICE_DESC -> Comparator.comparingInt(Product::getPrice).thenComparing(Product::getId).reversed();
+        };
+        return products.stream().filter(filter).sorted(order).map(Product::getId).toList();
+    }
+
+    private Product save(String name, int price, int stock, ProductCategory category) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .price(price)
+                .stockQuantity(stock)
+                .category(category)
+                .build());
+    }
+}
@@ -0,0 +1,38 @@
+package com.unikraft.domain.product;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 캐시 적중 수를 세기 위해 Hibernate 통계를 켭니다. (기본값은 꺼짐)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductCategoryCacheTest {
+
+    @Autowired
+    private ProductCategoryRepository productCategoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void categoryLookupByNameHitsNoDatabaseOnceCached() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 1. 첫 조회로 쿼리 캐시와 2차 캐시를 채웁니다.
+        productCategoryRepository.findByName("TEA").orElseThrow();
+
+        // 2. 이후 조회는 DB를 전혀 거치지 않아야 합니다.
+        statistics.clear();
+        for (int i = 0; i < 10; i++) {
+            assertThat(productCategoryRepository.findByName("TEA")).isPresent();
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(10);
+    }
+}
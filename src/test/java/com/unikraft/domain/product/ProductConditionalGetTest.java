@@ -0,0 +1,135 @@
+package com.unikraft.domain.product;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.order.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+
+import static com.unikraft.global.util.SqlStatementAssertions.assertStatementCountAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductConditionalGetTest {
+
+    private static final String LOGIN_ID = "etagbuyer";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        if (memberRepository.findByLoginId(LOGIN_ID).isEmpty()) {
+            memberRepository.save(Member.builder()
+                    .name("재방문 손님")
+                    .loginId(LOGIN_ID)
+                    .email("etag@test.com")
+                    .password("password")
+                    .build());
+        }
+        productId = productRepository.save(Product.builder().name("현미녹차").price(4000).stockQuantity(100).build()).getId();
+    }
+
+    @Test
+    void unchangedProductIsAnsweredWithNotModified() throws Exception {
+        // 1. 첫 요청: 본문과 함께 ETag, Cache-Control을 받습니다.
+        MvcResult first = mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        assertThat(first.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("public", "s-maxage");
+
+        // 2. 같은 ETag로 다시 물으면 본문 없이 304 (상품 캐시에서 계산하므로 재고 재조회 외에는 SQL이 없습니다)
+        assertStatementCountAtMost(1, () -> {
+            MvcResult second = mockMvc.perform(get("/api/products/{id}", productId)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andReturn();
+            assertThat(second.getResponse().getContentAsByteArray()).isEmpty();
+            assertThat(second.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+            assertThat(second.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).isNotNull();
+        });
+    }
+
+    @Test
+    void stockChangeBumpsVersionAndETag() throws Exception {
+        String etag = mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        long version = productRepository.findVersionById(productId).orElseThrow().getVersion();
+
+        // 1. 조건부 UPDATE로 재고를 차감해도 버전이 올라갑니다.
+        orderService.createOrder(LOGIN_ID, productId, 3);
+        assertThat(productRepository.findVersionById(productId).orElseThrow().getVersion()).isEqualTo(version + 1);
+
+        // 2. 이전 ETag로 물으면 새 본문과 새 ETag를 받습니다.
+        MvcResult changed = mockMvc.perform(get("/api/products/{id}", productId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(changed.getResponse().getContentAsString()).contains("\"stockQuantity\":97");
+    }
+
+    @Test
+    void productListSupportsConditionalGet() throws Exception {
+        String etag = mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void okResponseCarriesETagOfBodyActuallySent() {
+        ProductHttpCache cache = new ProductHttpCache(Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(30));
+
+        // 1. ETag를 읽은 뒤 본문을 읽기 전에 상품이 바뀌었다면, 200 응답의 ETag는 새 본문의 것이어야 합니다.
+        ResponseEntity<String> changed = cache.respond(null, "\"1-0-5\"", () -> "1-1-4", body -> "\"" + body + "\"");
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isEqualTo("\"1-1-4\"");
+
+        // 2. 304는 본문을 읽지 않고 현재 ETag로 판단합니다.
+        ResponseEntity<String> notModified = cache.respond("\"1-0-5\"", "\"1-0-5\"",
+                () -> { throw new AssertionError("본문을 읽으면 안 됩니다."); }, body -> body);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getHeaders().getETag()).isEqualTo("\"1-0-5\"");
+    }
+
+    @Test
+    void ifNoneMatchUsesWeakComparison() {
+        assertThat(ProductHttpCache.matches("\"1-0-5\"", "\"1-0-5\"")).isTrue();
+        assertThat(ProductHttpCache.matches("W/\"1-0-5\"", "\"1-0-5\"")).isTrue();
+        assertThat(ProductHttpCache.matches("\"a\", \"1-0-5\"", "\"1-0-5\"")).isTrue();
+        assertThat(ProductHttpCache.matches("*", "\"1-0-5\"")).isTrue();
+        assertThat(ProductHttpCache.matches("\"1-1-5\"", "\"1-0-5\"")).isFalse();
+        assertThat(ProductHttpCache.matches(null, "\"1-0-5\"")).isFalse();
+    }
+}
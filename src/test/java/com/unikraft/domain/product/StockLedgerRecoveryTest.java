@@ -0,0 +1,77 @@
+package com.unikraft.domain.product;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.order.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "unikraft.stock.ledger.enabled=true",
+        // 테스트가 직접 flush() 하도록 주기 반영은 사실상 끕니다.
+        "unikraft.stock.ledger.flush-interval-ms=3600000"
+})
+class StockLedgerRecoveryTest {
+
+    private static final String LOGIN_ID = "ledgerbuyer";
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void unflushedReservationsAreRecoveredOnStartup() {
+        memberRepository.save(Member.builder()
+                .name("장부손님")
+                .loginId(LOGIN_ID)
+                .email("ledger@test.com")
+                .password("password")
+                .build());
+        Long productId = productRepository.save(Product.builder().name("장부 홍차").price(3000).stockQuantity(10).build()).getId();
+
+        // 1. 주문이 커밋되면 장부와 저널에만 남고, product는 아직 그대로입니다.
+        orderService.createOrder(LOGIN_ID, productId, 3);
+        assertThat(stockLedger.getAvailable(productId)).isEqualTo(7);
+        assertThat(databaseStock(productId)).isEqualTo(10);
+        assertThat(reservationRows()).isEqualTo(1);
+
+        // 2. 반영 전에 죽었다고 보고 다시 시작하면, 남은 저널로 product를 복구합니다.
+        stockLedger.rebuild();
+        assertThat(databaseStock(productId)).isEqualTo(7);
+        assertThat(reservationRows()).isZero();
+        assertThat(stockLedger.getAvailable(productId)).isEqualTo(7);
+
+        // 3. 정상 반영(flush)은 차감과 저널 삭제를 함께 하므로, 이후 복구해도 두 번 차감되지 않습니다.
+        orderService.createOrder(LOGIN_ID, productId, 2);
+        stockLedger.flush();
+        assertThat(databaseStock(productId)).isEqualTo(5);
+        assertThat(reservationRows()).isZero();
+
+        stockLedger.rebuild();
+        assertThat(databaseStock(productId)).isEqualTo(5);
+        assertThat(stockLedger.getAvailable(productId)).isEqualTo(5);
+    }
+
+    private int databaseStock(Long productId) {
+        return jdbcTemplate.queryForObject("select stock_quantity from product where id = ?", Integer.class, productId);
+    }
+
+    private int reservationRows() {
+        return jdbcTemplate.queryForObject("select count(*) from stock_reservation", Integer.class);
+    }
+}
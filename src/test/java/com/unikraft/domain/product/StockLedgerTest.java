@@ -0,0 +1,95 @@
+package com.unikraft.domain.product;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class StockLedgerTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Test
+    void concurrentReservationsNeverOversell() throws InterruptedException {
+        // 1. 재고 1,000개인 상품에 64개 스레드가 1개씩 총 64,000번 예약을 시도합니다.
+        StockLedger ledger = newLedger(mock(JdbcTemplate.class));
+        ledger.register(PRODUCT_ID, 1_000);
+
+        int threads = 64;
+        int attemptsPerThread = 1_000;
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger minObserved = new AtomicInteger(Integer.MAX_VALUE);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    if (ledger.reserve(PRODUCT_ID, 1)) {
+                        succeeded.incrementAndGet();
+                    }
+                    minObserved.accumulateAndGet(ledger.getAvailable(PRODUCT_ID), Math::min);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // 2. 정확히 재고만큼만 성공하고, 재고는 한 번도 음수가 되지 않아야 합니다.
+        assertThat(succeeded.get()).isEqualTo(1_000);
+        assertThat(ledger.getAvailable(PRODUCT_ID)).isZero();
+        assertThat(minObserved.get()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void flushSendsNetDeltaInOneBatch() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        StockLedger ledger = newLedger(jdbcTemplate);
+        ledger.register(PRODUCT_ID, 10);
+        ledger.register(2L, 10);
+
+        ledger.reserve(PRODUCT_ID, 3);
+        ledger.reserve(PRODUCT_ID, 2);
+        ledger.release(PRODUCT_ID, 1);
+        ledger.reserve(2L, 4);
+
+        ledger.flush();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), ArgumentMatchers.<List<Object[]>>argThat(args ->
+                args.size() == 2
+                        && args.stream().anyMatch(a -> a[0].equals(4) && a[1].equals(PRODUCT_ID))
+                        && args.stream().anyMatch(a -> a[0].equals(4) && a[1].equals(2L))));
+    }
+
+    @Test
+    void flushWithoutReservationsDoesNotTouchDatabase() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        StockLedger ledger = newLedger(jdbcTemplate);
+        ledger.register(PRODUCT_ID, 10);
+
+        ledger.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private static StockLedger newLedger(JdbcTemplate jdbcTemplate) {
+        return new StockLedger(jdbcTemplate, mock(StockReservationRepository.class), mock(PlatformTransactionManager.class), true);
+    }
+}
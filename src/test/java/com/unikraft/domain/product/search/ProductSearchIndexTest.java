@@ -0,0 +1,192 @@
+package com.unikraft.domain.product.search;
+
+import com.unikraft.domain.product.dto.ProductSearchHit;
+import com.unikraft.domain.product.dto.ProductSearchResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    // 검색 지연 시간 예산 (100만 건 기준, 측정값: 드문 검색어 p50 0.4ms / p99 11ms, 흔한 검색어 p50 12ms)
+    // - 목표(1ms 미만)는 드문 검색어의 p50만 만족합니다. 예산은 현재 구현의 회귀를 막는 값입니다. (ProductSearchIndex [성능] 참고)
+    // - 드문 검색어의 p99는 상품 코드 조각이 영어 상품명("tea", "cookie")과 겹쳐 수만 건을 읽는 경우입니다.
+    // - 흔한 검색어는 100만 건 중 수십만 건이 맞는 검색어입니다.
+    private static final long RARE_QUERY_P50_BUDGET_NANOS = 2_000_000L;
+    private static final long RARE_QUERY_P99_BUDGET_NANOS = 50_000_000L;
+    private static final long COMMON_QUERY_P50_BUDGET_NANOS = 50_000_000L;
+
+    @Test
+    void findsKoreanCompoundWordsByPartialMatch() {
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        index.index(1L, "녹차라떼", "진한 말차 라떼", "TEA", 5000, "latte.jpg", 10);
+        index.index(2L, "초코 케이크", "달콤한 케이크", "DESSERT", 7000, "cake.jpg", 10);
+
+        ProductSearchResponse result = index.search("라떼", false, 0, 10);
+
+        assertThat(result.getTotalHits()).isEqualTo(1);
+        assertThat(result.getHits().get(0).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void ranksNameMatchesAboveDescriptionMatches() {
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        index.index(1L, "말차 쿠키", "케이크와 어울리는 쿠키", "DESSERT", 3000, null, 10);
+        index.index(2L, "딸기 케이크", "생크림", "DESSERT", 8000, null, 10);
+
+        ProductSearchResponse result = index.search("케이크", false, 0, 10);
+
+        assertThat(result.getHits()).extracting(ProductSearchHit::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void stockChangesAffectInStockFilterAndReindexReplacesDocument() {
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        index.index(1L, "한정판 녹차", null, "TEA", 9000, null, 1);
+
+        index.updateStock(1L, -1);
+        assertThat(index.search("녹차", true, 0, 10).getTotalHits()).isZero();
+        assertThat(index.search("녹차", false, 0, 10).getTotalHits()).isEqualTo(1);
+
+        index.index(1L, "한정판 홍차", null, "TEA", 9000, null, 5);
+        assertThat(index.search("녹차", false, 0, 10).getTotalHits()).isZero();
+        assertThat(index.search("홍차", true, 0, 10).getTotalHits()).isEqualTo(1);
+    }
+
+    @Test
+    void singleCharacterQueryMatchesNameAndCategory() {
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        index.index(1L, "녹차라떼", null, "TEA", 5000, null, 10);
+        index.index(2L, "초코 케이크", "녹차 향이 나는 케이크", "DESSERT", 7000, null, 10);
+
+        // 상품명에 "차"가 있는 상품만 맞고, 설명에만 있는 상품은 맞지 않습니다.
+        assertThat(index.search("차", false, 0, 10).getHits()).extracting(ProductSearchHit::getId).containsExactly(1L);
+        assertThat(index.search("a", false, 0, 10).getHits()).extracting(ProductSearchHit::getId).containsExactly(1L);
+    }
+
+    @Test
+    void pagesComeFromBoundedTopKInRankOrder() {
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        for (long id = 1; id <= 50; id++) {
+            // 짝수 id는 상품명에, 홀수 id는 설명에만 "홍차"가 있습니다.
+            index.index(id, id % 2 == 0 ? "홍차 " + id : "상품 " + id, id % 2 == 0 ? null : "홍차 향", "TEA", 1000, null, 10);
+        }
+
+        ProductSearchResponse first = index.search("홍차", false, 0, 10);
+        ProductSearchResponse third = index.search("홍차", false, 2, 10);
+
+        assertThat(first.getTotalHits()).isEqualTo(50);
+        assertThat(first.getHits()).extracting(ProductSearchHit::getId)
+                .containsExactly(50L, 48L, 46L, 44L, 42L, 40L, 38L, 36L, 34L, 32L);
+        // 상품명 일치 25개 다음에 설명 일치가 id 내림차순으로 이어집니다.
+        assertThat(third.getHits()).extracting(ProductSearchHit::getId)
+                .containsExactly(10L, 8L, 6L, 4L, 2L, 49L, 47L, 45L, 43L, 41L);
+    }
+
+    @Test
+    void pageBeyondResultsIsEmptyWithoutOverflow() {
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        index.index(1L, "녹차", null, "TEA", 1000, null, 10);
+
+        // page * size가 int 범위를 넘어도 음수 위치로 잘리지 않고 빈 페이지가 나와야 합니다.
+        ProductSearchResponse result = index.search("녹차", false, 30_000_000, 100);
+
+        assertThat(result.getHits()).isEmpty();
+        assertThat(result.getTotalHits()).isEqualTo(1);
+    }
+
+    @Test
+    void reindexingCompactsDeletedDocuments() {
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        for (long id = 1; id <= 100; id++) {
+            index.index(id, "녹차 " + id, null, "TEA", 1000, null, 10);
+        }
+
+        // 같은 상품을 여러 번 재색인하면 이전 문서가 쌓이다가, 일정 비율을 넘으면 압축됩니다.
+        for (int round = 0; round < 30; round++) {
+            for (long id = 1; id <= 100; id++) {
+                index.index(id, (round % 2 == 0 ? "홍차 " : "녹차 ") + id, null, "TEA", 1000, null, 10);
+            }
+        }
+
+        assertThat(index.documentCount()).isLessThan(100 + 1_024 * 2);
+        assertThat(index.search("홍차", false, 0, 10).getTotalHits()).isZero();
+        assertThat(index.search("녹차", false, 0, 200).getTotalHits()).isEqualTo(100);
+        assertThat(index.search("녹차", false, 0, 1).getHits()).extracting(ProductSearchHit::getId).containsExactly(100L);
+
+        index.updateStock(7L, -10);
+        assertThat(index.search("녹차", true, 0, 200).getTotalHits()).isEqualTo(99);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkSearchOverOneMillionProducts() {
+        // 1. 100만 개의 합성 상품 데이터 색인
+        String[] adjectives = {"유기농", "프리미엄", "달콤한", "진한", "수제", "한정판", "제주", "말린", "냉동", "저당"};
+        String[] nouns = {"녹차", "홍차", "말차라떼", "초코케이크", "치즈케이크", "마카롱", "쿠키", "원두", "보리차", "과일청",
+                "tea", "cookie", "latte", "brownie", "scone"};
+        String[] categories = {"TEA", "DESSERT", "COFFEE", "BAKERY", "GIFT"};
+        Random random = new Random(42);
+
+        ProductSearchIndex index = new ProductSearchIndex(null);
+        long indexStart = System.nanoTime();
+        for (long id = 1; id <= 1_000_000; id++) {
+            String name = adjectives[random.nextInt(adjectives.length)] + " " + nouns[random.nextInt(nouns.length)]
+                    + " " + Long.toString(id, 36);
+            index.index(id, name, "상품 설명 " + nouns[random.nextInt(nouns.length)],
+                    categories[random.nextInt(categories.length)], 1000 + random.nextInt(50_000), null,
+                    random.nextInt(100));
+        }
+        long indexMillis = (System.nanoTime() - indexStart) / 1_000_000;
+
+        // 2. 드문 검색어(상품 고유 코드)와 흔한 검색어(수만~수십만 건이 맞는 단어)를 따로 측정합니다.
+        String[] rareQueries = new String[2_000];
+        for (int i = 0; i < rareQueries.length; i++) {
+            rareQueries[i] = i % 2 == 0
+                    ? Long.toString(1 + random.nextInt(1_000_000), 36)
+                    : adjectives[random.nextInt(adjectives.length)] + " " + Long.toString(1 + random.nextInt(1_000_000), 36);
+        }
+        String[] commonQueries = new String[200];
+        for (int i = 0; i < commonQueries.length; i++) {
+            commonQueries[i] = switch (i % 4) {
+                case 0 -> nouns[random.nextInt(nouns.length)];
+                case 1 -> adjectives[random.nextInt(adjectives.length)] + " " + nouns[random.nextInt(nouns.length)];
+                case 2 -> categories[random.nextInt(categories.length)];
+                default -> "차";
+            };
+        }
+
+        long[] rare = measure(index, rareQueries);
+        long[] common = measure(index, commonQueries);
+
+        System.out.printf("[검색 벤치마크] 색인 100만 건: %d ms, 드문 검색어 p50/p99: %.3f/%.3f ms, 흔한 검색어 p50/p99: %.3f/%.3f ms%n",
+                indexMillis, rare[rare.length / 2] / 1e6, rare[rare.length * 99 / 100] / 1e6,
+                common[common.length / 2] / 1e6, common[common.length * 99 / 100] / 1e6);
+
+        // 3. 지연 시간 예산
+        assertThat(rare[rare.length / 2]).isLessThan(RARE_QUERY_P50_BUDGET_NANOS);
+        assertThat(rare[rare.length * 99 / 100]).isLessThan(RARE_QUERY_P99_BUDGET_NANOS);
+        assertThat(common[common.length / 2]).isLessThan(COMMON_QUERY_P50_BUDGET_NANOS);
+    }
+
+    private static long[] measure(ProductSearchIndex index, String[] queries) {
+        for (int round = 0; round < 3; round++) {
+            for (String query : queries) {
+                index.search(query, false, 0, 20); // JIT 워밍업
+            }
+        }
+
+        long[] latencies = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            long start = System.nanoTime();
+            index.search(queries[i], true, 0, 20);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+}
@@ -0,0 +1,77 @@
+package com.unikraft.global.config;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.order.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부하 테스트 데이터 생성 검증
+ * - loadtest 프로필로 적은 양을 만들어 개수, 로그인 가능 여부, 과거 주문 일시를 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest",
+        "unikraft.loadtest.categories=3",
+        "unikraft.loadtest.products=120",
+        "unikraft.loadtest.members=70",
+        "unikraft.loadtest.orders=260",
+        "unikraft.loadtest.history-days=30",
+        "unikraft.loadtest.chunk-size=100"
+})
+@ActiveProfiles("loadtest")
+class LoadTestDataGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void seedsConfiguredAmounts() {
+        assertThat(count("select count(*) from product_category where name like 'LT-CATEGORY-%'")).isEqualTo(3);
+        assertThat(count("select count(*) from product p join product_category c on p.category_id = c.id where c.name like 'LT-CATEGORY-%'"))
+                .isEqualTo(120);
+        assertThat(count("select count(*) from member where login_id like 'loadtest%'")).isEqualTo(70);
+        assertThat(orderRepository.count()).isEqualTo(260);
+        assertThat(count("select count(*) from orders o where not exists (select 1 from order_item i where i.order_id = o.id)"))
+                .isZero();
+    }
+
+    @Test
+    void membersCanLogInWithConfiguredPassword() {
+        Member last = memberRepository.findByLoginId(LoadTestDataGenerator.loginIdOf(70)).orElseThrow();
+
+        assertThat(passwordEncoder.matches("loadtest", last.getPassword())).isTrue();
+    }
+
+    @Test
+    void ordersAreSpreadOverHistory() {
+        Timestamp oldest = jdbcTemplate.queryForObject("select min(order_date) from orders", Timestamp.class);
+        Timestamp newest = jdbcTemplate.queryForObject("select max(order_date) from orders", Timestamp.class);
+
+        assertThat(oldest.toLocalDateTime()).isAfter(LocalDateTime.now().minusDays(31));
+        assertThat(oldest.toLocalDateTime()).isBefore(LocalDateTime.now().minusDays(20));
+        assertThat(newest.toLocalDateTime()).isAfter(LocalDateTime.now().minusDays(10));
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,17 @@
+package com.unikraft.global.config;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 플랫폼 스레드(Tomcat 고정 스레드 풀) 기준 부하 벤치마크
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PlatformThreadLoadBenchmarkTest extends ThreadModelLoadBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,65 @@
+package com.unikraft.global.config;
+
+import com.unikraft.domain.product.ProductRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영(prod) 프로필 검증
+ * - MySQL 대신 H2의 MySQL 호환 모드로 prod 프로필을 띄워 커넥션 풀 설정과 풀 지표를 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:prod;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create"
+})
+@ActiveProfiles("prod")
+class ProdDataSourceProfileTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Value("${spring.jpa.show-sql}")
+    private boolean showSql;
+
+    @Test
+    void hikariPoolIsTunedForProduction() throws SQLException {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        assertThat(hikari.getPoolName()).isEqualTo("unikraft-primary");
+        assertThat(hikari.getMinimumIdle()).isEqualTo(hikari.getMaximumPoolSize());
+        assertThat(hikari.getLeakDetectionThreshold()).isPositive();
+        assertThat(hikari.getDataSourceProperties())
+                .containsEntry("cachePrepStmts", "true")
+                .containsEntry("rewriteBatchedStatements", "true");
+        assertThat(showSql).isFalse();
+    }
+
+    @Test
+    void poolMetricsArePublished() {
+        // 커넥션을 한 번 사용해 acquire 지표가 기록되게 합니다.
+        productRepository.count();
+
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "unikraft-primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.idle").tag("pool", "unikraft-primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.pending").tag("pool", "unikraft-primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "unikraft-primary").timer().count()).isPositive();
+    }
+}
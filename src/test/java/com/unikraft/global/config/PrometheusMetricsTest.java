@@ -0,0 +1,92 @@
+package com.unikraft.global.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.unikraft.domain.order.OrderService;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Prometheus 수집 엔드포인트 검증
+ * - 주문/상품/로그인/토큰 검증을 한 번씩 거친 뒤 /actuator/prometheus 에 지표와 히스토그램 버킷이 나오는지 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+class PrometheusMetricsTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void hotPathMetricsAreScraped() {
+        // 1. 주문 1건 성공 후, 재고가 없어 1건 실패
+        Long productId = productRepository.save(Product.builder().name("한정판 보이차").price(9000).stockQuantity(1).build()).getId();
+        double stockOutsBefore = meterRegistry.get("unikraft.order.stock-out").counter().count();
+        long failuresBefore = orderDurationCount("failure");
+        long commitsBefore = meterRegistry.get("unikraft.order.step").tag("step", "commit").timer().count();
+        orderService.createOrder("testuser", productId, 1);
+        assertThatThrownBy(() -> orderService.createOrder("testuser", productId, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(meterRegistry.get("unikraft.order.stock-out").counter().count()).isEqualTo(stockOutsBefore + 1);
+        // 롤백된 주문도 outcome=failure로 시간이 기록되고, 커밋 단계는 성공한 주문만 기록됩니다.
+        assertThat(orderDurationCount("failure")).isEqualTo(failuresBefore + 1);
+        assertThat(meterRegistry.get("unikraft.order.step").tag("step", "commit").timer().count()).isEqualTo(commitsBefore + 1);
+
+        // 2. 로그인 → 토큰으로 내 주문 조회 (토큰 검증), 상품 상세 조회
+        JsonNode tokens = restTemplate.postForObject("/api/members/login",
+                Map.of("loginId", "testuser", "password", "1234"), JsonNode.class);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(tokens.get("accessToken").asText());
+        ResponseEntity<String> myOrders = restTemplate.exchange("/api/orders/my", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(myOrders.getStatusCode()).isEqualTo(HttpStatus.OK);
+        restTemplate.getForObject("/api/products/" + productId, String.class);
+        restTemplate.getForEntity("/api/products/" + Long.MAX_VALUE, String.class);
+
+        // 3. 수집 (서비스 포트에서는 health만 공개, prometheus는 인증 필요)
+        assertThat(restTemplate.getForEntity("/actuator/health", String.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(restTemplate.getForEntity("/actuator/prometheus", String.class).getStatusCode().is4xxClientError()).isTrue();
+        ResponseEntity<String> scrape = restTemplate.exchange("/actuator/prometheus", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody())
+                .containsPattern("unikraft_order_duration_seconds_bucket\\{.*operation=\"create\",outcome=\"success\"")
+                .containsPattern("unikraft_order_duration_seconds_count\\{.*operation=\"create\",outcome=\"failure\"")
+                .containsPattern("unikraft_order_step_seconds_count\\{.*step=\"commit\"")
+                .contains("unikraft_order_stock_out_total")
+                .containsPattern("unikraft_product_duration_seconds_bucket\\{.*operation=\"detail\",outcome=\"success\"")
+                .containsPattern("unikraft_product_duration_seconds_count\\{.*operation=\"detail\",outcome=\"failure\"")
+                .containsPattern("unikraft_auth_login_seconds_count\\{.*outcome=\"success\"")
+                .containsPattern("unikraft_auth_token_verify_seconds_count\\{.*result=\"valid\"")
+                .containsPattern("cache_gets_total\\{.*cache=\"jwt.verified\"")
+                .containsPattern("hikaricp_connections_active\\{")
+                .containsPattern("http_server_requests_seconds_bucket\\{");
+    }
+
+    private long orderDurationCount(String outcome) {
+        return meterRegistry.get("unikraft.order.duration").tag("operation", "create").tag("outcome", outcome).timer().count();
+    }
+}
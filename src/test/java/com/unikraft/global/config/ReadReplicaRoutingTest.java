@@ -0,0 +1,170 @@
+package com.unikraft.global.config;
+
+import com.unikraft.domain.cart.CartWriter;
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.member.MemberService;
+import com.unikraft.domain.order.OrderService;
+import com.unikraft.domain.order.dto.OrderResponse;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import com.unikraft.domain.product.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 읽기 복제본 라우팅 통합 테스트
+ * - 원본과 복제본을 서로 다른 H2 메모리 DB 두 개로 띄웁니다.
+ * - 복제는 원본을 SCRIPT로 떠서 복제본에 RUNSCRIPT로 붓는 방식으로 흉내 내며, replicate()를 부르기 전까지 복제본은 뒤처져 있습니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingTest.PRIMARY_URL,
+        "unikraft.datasource.routing.enabled=true",
+        "unikraft.datasource.replicas[0].url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "unikraft.datasource.replicas[0].username=sa"
+})
+class ReadReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-it-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-it-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartWriter cartWriter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        replicate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromReplica() throws Exception {
+        // 1. 쓰기는 원본으로 갑니다.
+        memberRepository.save(Member.builder()
+                .loginId("fresh01")
+                .password("password")
+                .name("신규회원")
+                .email("fresh01@test.com")
+                .build());
+
+        // 2. 복제 전에는 읽기 전용 트랜잭션이 복제본에서 읽으므로 보이지 않아야 합니다.
+        assertThat(memberService.findMember("fresh01")).isEmpty();
+
+        // 3. 복제 후에는 보여야 합니다.
+        replicate();
+        assertThat(memberService.findMember("fresh01")).isPresent();
+    }
+
+    @Test
+    void productCacheMissesReadFromReplica() throws Exception {
+        // 1. 원본에만 있는 상품은 캐시 미스여도 복제본에서 읽으므로 찾을 수 없습니다.
+        Long productId = productRepository.save(Product.builder().name("복제 전 상품").price(1000).stockQuantity(5).build()).getId();
+        assertThatThrownBy(() -> productService.findProduct(productId))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 2. 복제 후에는 보여야 합니다.
+        replicate();
+        assertThat(productService.findProduct(productId).getName()).isEqualTo("복제 전 상품");
+    }
+
+    @Test
+    void memberSeesOwnOrderRightAfterPlacingIt() throws Exception {
+        Long productId = productRepository.save(Product.builder().name("복제 테스트 상품").price(1000).stockQuantity(100).build()).getId();
+        replicate();
+
+        // 1. testuser로 주문합니다. (복제본에는 아직 반영되지 않음)
+        authenticate("testuser");
+        Long orderId = orderService.createOrder("testuser", productId, 1);
+
+        // 2. 주문한 회원 본인은 원본에서 읽으므로 방금 한 주문이 보여야 합니다.
+        assertThat(orderIds(orderService.findMyOrders("testuser", null, 100).getOrders())).contains(orderId);
+
+        // 3. 다른 회원의 요청은 그대로 복제본에서 읽으므로 아직 보이지 않아야 합니다.
+        authenticate("someoneelse");
+        assertThat(orderIds(orderService.findMyOrders("testuser", null, 100).getOrders())).doesNotContain(orderId);
+    }
+
+    @Test
+    void cartLoadsReadFromPrimary() {
+        Long productId = productRepository.save(Product.builder().name("장바구니 상품").price(1000).stockQuantity(10).build()).getId();
+        Long memberId = memberRepository.findByLoginId("testuser").orElseThrow().getId();
+
+        // 메모리 장바구니는 DB에서 읽은 상태를 고쳐 다시 쓰므로, 복제 전이라도 방금 쓴 장바구니가 보여야 합니다.
+        cartWriter.saveCart(memberId, Map.of(productId, 3));
+        assertThat(cartWriter.loadItems(memberId)).containsExactly(Map.entry(productId, 3));
+    }
+
+    private static void authenticate(String loginId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(loginId, null, List.of()));
+    }
+
+    private static List<Long> orderIds(List<OrderResponse> orders) {
+        return orders.stream().map(OrderResponse::getId).toList();
+    }
+
+    // 원본의 스키마와 데이터를 복제본에 그대로 붓습니다.
+    static void replicate() throws Exception {
+        Path script = Files.createTempFile("replica", ".sql");
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement()) {
+            statement.execute("SCRIPT TO '" + script + "'");
+        }
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("RUNSCRIPT FROM '" + script + "'");
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    /**
+     * 시작 시 검색 인덱스 생성 등 읽기 전용 조회가 복제본으로 가므로, 그 전에 스키마를 복제해 둡니다.
+     */
+    @TestConfiguration
+    static class InitialReplication {
+
+        @EventListener(ApplicationStartedEvent.class)
+        public void replicateSchema() throws Exception {
+            replicate();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.unikraft.global.config;
+
+import com.unikraft.global.util.ReadYourWritesWindow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 분리 DataSource 단위 테스트
+ * - 각 대상은 이름이 다른 H2 메모리 DB이고, 커넥션의 URL로 어디서 빌렸는지 확인합니다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary";
+    private static final String REPLICA_1_URL = "jdbc:h2:mem:routing-replica1";
+    private static final String REPLICA_2_URL = "jdbc:h2:mem:routing-replica2";
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyConnectionsGoToLeastOutstandingReplica() throws SQLException {
+        ReadWriteRoutingDataSource routing = routing(Map.of(
+                "replica-1", h2(REPLICA_1_URL),
+                "replica-2", h2(REPLICA_2_URL)));
+
+        try (Connection first = routing.getConnection();
+             Connection second = routing.getConnection()) {
+            // 1. 두 복제본에 하나씩 나뉘어야 합니다.
+            assertThat(List.of(url(first), url(second))).containsExactlyInAnyOrder(REPLICA_1_URL, REPLICA_2_URL);
+
+            // 2. 하나를 반납하면 다음 커넥션은 반납된 쪽(빌려 간 수가 적은 쪽)에서 빌려야 합니다.
+            String released = url(first);
+            first.close();
+            try (Connection third = routing.getConnection()) {
+                assertThat(url(third)).isEqualTo(released);
+            }
+        }
+
+        assertThat(routing.getOutstanding()).containsEntry("replica-1", 0).containsEntry("replica-2", 0);
+    }
+
+    @Test
+    void writeConnectionsGoToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadWriteRoutingDataSource routing = routing(Map.of("replica-1", h2(REPLICA_1_URL)));
+
+        try (Connection connection = routing.getConnection()) {
+            assertThat(url(connection)).isEqualTo(PRIMARY_URL);
+        }
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() throws SQLException {
+        // 열려 있지 않은 포트라 커넥션을 빌릴 수 없는 복제본
+        ReadWriteRoutingDataSource routing = routing(Map.of("replica-1", h2("jdbc:h2:tcp://localhost:1/unreachable")));
+
+        try (Connection connection = routing.getConnection()) {
+            assertThat(url(connection)).isEqualTo(PRIMARY_URL);
+        }
+        assertThat(routing.getOutstanding()).containsEntry("replica-1", 0).containsEntry(ReadWriteRoutingDataSource.PRIMARY, 0);
+    }
+
+    private ReadWriteRoutingDataSource routing(Map<String, DriverManagerDataSource> replicas) {
+        return new ReadWriteRoutingDataSource(h2(PRIMARY_URL), new LinkedHashMap<>(replicas),
+                new ReadYourWritesWindow(Duration.ofSeconds(5)), Duration.ofSeconds(5));
+    }
+
+    private static DriverManagerDataSource h2(String url) {
+        return new DriverManagerDataSource(url, "sa", "");
+    }
+
+    private static String url(Connection connection) throws SQLException {
+        return connection.getMetaData().getURL();
+    }
+}
@@ -0,0 +1,45 @@
+package com.unikraft.global.config;
+
+import com.unikraft.domain.member.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅 + DB 동시 접근 제한을 함께 켠 구성
+ * - 동시 접근 제한은 최상위 dataSource 하나만 감싸고, 라우팅 DataSource는 그대로 남아야 합니다.
+ * - 복제본은 원본과 같은 DB를 가리키게 하여 복제 없이 읽을 수 있게 합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + RoutingWithConcurrencyLimitTest.URL,
+        "unikraft.datasource.routing.enabled=true",
+        "unikraft.datasource.replicas[0].url=" + RoutingWithConcurrencyLimitTest.URL,
+        "unikraft.datasource.replicas[0].username=sa",
+        "unikraft.jdbc.concurrency-limit.enabled=true",
+        "unikraft.jdbc.concurrency-limit.max-concurrency=4"
+})
+class RoutingWithConcurrencyLimitTest {
+
+    static final String URL = "jdbc:h2:mem:routing-limited;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReadWriteRoutingDataSource readWriteRoutingDataSource;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void onlyTheTopLevelDataSourceIsLimited() {
+        assertThat(dataSource).isInstanceOf(ConcurrencyLimitingDataSource.class);
+        assertThat(readWriteRoutingDataSource).isNotNull();
+
+        assertThat(memberRepository.findByLoginId("testuser")).isPresent();
+    }
+}
@@ -0,0 +1,114 @@
+package com.unikraft.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스레드 모델별 부하 비교 벤치마크 (공통)
+ * - 동시 클라이언트 5,000개가 GET /api/products, GET /api/orders/my를 계속 요청할 때의 처리량과 p99를 측정합니다.
+ * - 플랫폼 스레드(PlatformThreadLoadBenchmarkTest)와 가상 스레드(VirtualThreadLoadBenchmarkTest)가 같은 부하를 받습니다.
+ */
+abstract class ThreadModelLoadBenchmarkSupport {
+
+    private static final int CONCURRENT_CLIENTS = 5_000;
+    private static final int TOTAL_REQUESTS = 50_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    private String accessToken;
+
+    protected abstract String mode();
+
+    @BeforeEach
+    void login() throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/api/members/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"loginId\":\"testuser\",\"password\":\"1234\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        accessToken = objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    @Test
+    void products() throws Exception {
+        run("GET /api/products", HttpRequest.newBuilder(uri("/api/products")).GET().build());
+    }
+
+    @Test
+    void myOrders() throws Exception {
+        run("GET /api/orders/my", HttpRequest.newBuilder(uri("/api/orders/my"))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET().build());
+    }
+
+    private void run(String name, HttpRequest request) throws Exception {
+        // JIT 워밍업
+        load(request, CONCURRENT_CLIENTS);
+
+        long start = System.nanoTime();
+        Result result = load(request, TOTAL_REQUESTS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("[스레드 모델 부하 비교] %s %s - 동시 %d, 요청 %d, 처리량: %.0f req/s, p50/p99: %.3f/%.3f ms, 응답 코드: %s%n",
+                mode(), name, CONCURRENT_CLIENTS, TOTAL_REQUESTS, TOTAL_REQUESTS / seconds,
+                percentile(result.latencies(), 50), percentile(result.latencies(), 99), result.statuses());
+    }
+
+    // 동시에 CONCURRENT_CLIENTS개까지만 요청을 띄워 둔 상태를 유지하며 count개를 보냅니다.
+    private Result load(HttpRequest request, int count) throws Exception {
+        Semaphore inFlight = new Semaphore(CONCURRENT_CLIENTS);
+        long[] latencies = new long[count];
+        Map<String, AtomicInteger> statuses = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[count];
+
+        for (int i = 0; i < count; i++) {
+            inFlight.acquire();
+            int index = i;
+            long sentAt = System.nanoTime();
+            futures[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[index] = System.nanoTime() - sentAt;
+                        String status = error == null ? String.valueOf(response.statusCode()) : error.getClass().getSimpleName();
+                        statuses.computeIfAbsent(status, k -> new AtomicInteger()).incrementAndGet();
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(futures).exceptionally(e -> null).join();
+
+        Arrays.sort(latencies);
+        return new Result(latencies, statuses);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static double percentile(long[] sortedLatencies, int percentile) {
+        return sortedLatencies[sortedLatencies.length * percentile / 100 - 1] / 1e6;
+    }
+
+    private record Result(long[] latencies, Map<String, AtomicInteger> statuses) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.unikraft.global.config;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 가상 스레드(virtual 프로필) 부하 벤치마크
+ * - Java 21 이상에서만 실행됩니다: ./gradlew test -PjavaVersion=21 -Dbenchmark=true
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadLoadBenchmarkTest extends ThreadModelLoadBenchmarkSupport {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,105 @@
+package com.unikraft.global.filter;
+
+import com.unikraft.domain.member.Member;
+import com.unikraft.domain.member.MemberRepository;
+import com.unikraft.domain.order.OrderService;
+import com.unikraft.domain.product.Product;
+import com.unikraft.domain.product.ProductRepository;
+import com.unikraft.global.util.SqlStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.unikraft.global.util.SqlStatementAssertions.assertStatementCount;
+import static com.unikraft.global.util.SqlStatementAssertions.assertStatementCountAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"unikraft.sql-stats.enabled=true", "unikraft.sql-stats.headers=true"})
+@AutoConfigureMockMvc
+class SqlStatisticsFilterTest {
+
+    private static final String LOGIN_ID = "sqlstats";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (memberRepository.findByLoginId(LOGIN_ID).isEmpty()) {
+            memberRepository.save(Member.builder()
+                    .name("통계손님")
+                    .loginId(LOGIN_ID)
+                    .email("sqlstats@test.com")
+                    .password("password")
+                    .build());
+        }
+    }
+
+    @Test
+    void countsStatementsOfJdbcAndJpa() throws Exception {
+        // 1. JdbcTemplate 한 번 = 문장 한 개
+        assertStatementCount(1, () -> jdbcTemplate.queryForObject("select count(*) from product", Long.class));
+
+        // 2. 주문이 늘어도 내 주문 조회는 회원 + 주문 ID + 주문 상세 조회로 끝나야 합니다. (N+1 없음)
+        Long productId = productRepository.save(Product.builder().name("보리차").price(2000).stockQuantity(1000).build()).getId();
+        for (int i = 0; i < 10; i++) {
+            orderService.createOrder(LOGIN_ID, productId, 1);
+        }
+        SqlStatistics statistics = assertStatementCountAtMost(3, () -> orderService.findMyOrders(LOGIN_ID, null, 20));
+        assertThat(statistics.getFingerprints()).isNotEmpty();
+    }
+
+    @Test
+    void nestedScopeIsAddedToOuterScope() throws Exception {
+        try (SqlStatistics outer = SqlStatistics.start()) {
+            assertStatementCount(2, () -> {
+                jdbcTemplate.queryForObject("select count(*) from product where price > 1", Long.class);
+                jdbcTemplate.queryForObject("select count(*) from product where price > 2", Long.class);
+            });
+            jdbcTemplate.queryForObject("select count(*) from member", Long.class);
+
+            // 리터럴만 다른 쿼리는 같은 지문으로 묶입니다.
+            assertThat(outer.getStatements()).isEqualTo(3);
+            assertThat(outer.getFingerprints())
+                    .containsEntry(SqlStatistics.fingerprint("select count(*) from product where price > 1"), 2);
+        }
+        assertThat(SqlStatistics.current()).isNull();
+    }
+
+    @Test
+    void fingerprintReplacesLiterals() {
+        assertThat(SqlStatistics.fingerprint("select * from product where id in (1, 2, 3) and name = 'x'"))
+                .isEqualTo(SqlStatistics.fingerprint("select * from product where id in (7, 8) and name = 'yy'"));
+    }
+
+    @Test
+    void responseCarriesSqlHeaders() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/products/catalog"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String count = result.getResponse().getHeader(SqlStatisticsFilter.COUNT_HEADER);
+        assertThat(count).isNotNull();
+        assertThat(Integer.parseInt(count)).isGreaterThanOrEqualTo(1);
+        assertThat(result.getResponse().getHeader(SqlStatisticsFilter.TIME_HEADER)).isNotNull();
+    }
+}
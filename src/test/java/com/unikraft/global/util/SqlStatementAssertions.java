@@ -0,0 +1,54 @@
+package com.unikraft.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL 문장 수 검증 도우미 (테스트용)
+ * - 서비스 메서드 호출 하나를 SqlStatistics 구간으로 감싸 실행된 JDBC 문장 수를 검증합니다.
+ * - 실패하면 실행된 쿼리 지문과 횟수를 함께 보여 주므로 어떤 쿼리가 N+1로 반복되는지 바로 알 수 있습니다.
+ * - unikraft.sql-stats.enabled=true (기본 설정)여야 DataSource가 문장을 기록합니다.
+ * - 호출한 스레드에서 실행된 SQL만 셉니다. (@Transactional 메서드의 커밋 시 flush는 포함)
+ *
+ * 사용 예:
+ *   assertStatementCountAtMost(3, () -> orderService.findMyOrders("testuser", null, 20));
+ */
+public final class SqlStatementAssertions {
+
+    // 실패 메시지에 보여 줄 쿼리 지문 수
+    private static final int SHOWN_FINGERPRINTS = 10;
+
+    private SqlStatementAssertions() {
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    /**
+     * @param action 실행할 코드
+     * @return 실행 중에 현재 스레드에서 실행된 SQL 통계
+     */
+    public static SqlStatistics countStatements(ThrowingRunnable action) throws Exception {
+        try (SqlStatistics statistics = SqlStatistics.start()) {
+            action.run();
+            return statistics;
+        }
+    }
+
+    public static SqlStatistics assertStatementCount(int expected, ThrowingRunnable action) throws Exception {
+        SqlStatistics statistics = countStatements(action);
+        assertThat(statistics.getStatements())
+                .as("SQL 문장 수 %s", statistics.topFingerprints(SHOWN_FINGERPRINTS))
+                .isEqualTo(expected);
+        return statistics;
+    }
+
+    public static SqlStatistics assertStatementCountAtMost(int max, ThrowingRunnable action) throws Exception {
+        SqlStatistics statistics = countStatements(action);
+        assertThat(statistics.getStatements())
+                .as("SQL 문장 수 %s", statistics.topFingerprints(SHOWN_FINGERPRINTS))
+                .isLessThanOrEqualTo(max);
+        return statistics;
+    }
+}
@@ -0,0 +1,60 @@
+package com.unikraft.loadtest;
+
+import com.unikraft.loadtest.WorkloadRunner.Operation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부하 테스트 전체 흐름 (데이터 생성 → 워크로드 실행 → 백분위 보고)
+ * - 앱을 따로 띄우지 않고 loadtest 프로필로 임의 포트에 띄운 뒤 WorkloadRunner를 돌립니다.
+ * - 실제 용량 측정은 앱을 별도 프로세스로 띄우고 ./gradlew loadTest 로 실행합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest-workload",
+        "unikraft.loadtest.products=1000",
+        "unikraft.loadtest.members=500",
+        "unikraft.loadtest.orders=5000"
+})
+@ActiveProfiles("loadtest")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoadTestWorkloadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void mixedWorkload() throws Exception {
+        WorkloadRunner.Settings settings = new WorkloadRunner.Settings(
+                URI.create("http://localhost:" + port),
+                20,
+                200,
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(20),
+                Map.of(Operation.BROWSE, 60, Operation.DETAIL, 25, Operation.LOGIN, 5, Operation.ORDER, 10),
+                500,
+                "loadtest",
+                1000,
+                42,
+                Path.of("build/loadtest/test"));
+
+        WorkloadRunner.Report report = new WorkloadRunner(settings).run();
+        System.out.println("[부하 테스트] 가상 사용자 20명, open-loop 200 req/s, 20초");
+        report.print(System.out);
+        report.write(settings.outputDir());
+
+        report.stats().forEach((operation, stats) -> {
+            assertThat(stats.count()).as(operation.endpoint()).isPositive();
+            assertThat(stats.errors()).as(operation.endpoint()).isZero();
+        });
+    }
+}
@@ -0,0 +1,437 @@
+package com.unikraft.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unikraft.global.config.LoadTestDataGenerator;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP 부하 발생기 (Workload Runner)
+ *
+ * [시나리오]
+ * - 가상 사용자(users)마다 스레드 하나가 로그인한 뒤, 비율(mix)에 따라 아래 요청을 보냅니다.
+ *   - browse: 카탈로그 목록 (카테고리/정렬을 바꿔 가며, 절반은 다음 페이지로 이어서)
+ *   - detail: 상품 상세
+ *   - login: 다른 회원으로 다시 로그인
+ *   - order: 상품 1건 주문
+ * - 사용자별 난수 seed가 고정되어 있어 같은 설정이면 같은 순서로 요청합니다.
+ * - 워밍업(warmup) 동안의 요청은 집계하지 않습니다.
+ *
+ * [측정 방식]
+ * - closed-loop (rate=0, 기본값): 응답을 받자마자 다음 요청을 보냅니다. 최대 처리량을 보기 좋지만,
+ *   서버가 멈춘 동안에는 요청도 보내지 않으므로 그동안 밀렸어야 할 요청의 대기 시간이 빠집니다. (Coordinated Omission)
+ *   그래서 p99 같은 꼬리 지연이 실제보다 낮게 나옵니다.
+ * - open-loop (rate > 0): 전체 rate req/s가 되도록 사용자마다 정해진 간격으로 요청을 예약하고,
+ *   지연 시간을 실제로 보낸 시각이 아니라 예약된 시각부터 잽니다. 응답이 늦어 밀린 시간도 지연 시간에 들어갑니다.
+ *   단, 동시에 보낼 수 있는 요청 수는 users로 제한되므로 실제 처리량이 목표보다 낮으면 users를 늘려야 합니다. (보고서에 함께 출력)
+ *
+ * [결과]
+ * - 엔드포인트별 요청 수, 오류 수, 처리량, HdrHistogram 백분위(p50/p90/p99/p99.9/max)를 출력합니다.
+ * - output-dir에 엔드포인트별 백분위 분포(.hgrm)를 저장하므로 HdrHistogram Plotter로 실행끼리 비교할 수 있습니다.
+ *
+ * [실행] 앱을 loadtest 프로필로 먼저 띄운 뒤 (application-loadtest.yml 참고)
+ * - ./gradlew loadTest -Dloadtest.users=100 -Dloadtest.duration=120s -Dloadtest.mix=browse=60,detail=25,login=5,order=10
+ *
+ * [설정] -Dloadtest.* (괄호 안은 기본값)
+ * - base-url(http://localhost:8080), users(50), rate(0: closed-loop, 0보다 크면 전체 목표 req/s로 open-loop),
+ *   warmup(10s), duration(60s), mix(browse=60,detail=25,login=5,order=10)
+ * - members(10000), password(loadtest): 데이터 생성 설정(unikraft.loadtest.*)과 맞춥니다.
+ * - catalog-size(5000): 상세/주문 대상으로 미리 모아 둘 상품 수, seed(42), output-dir(build/loadtest)
+ */
+public class WorkloadRunner {
+
+    private static final int PAGE_SIZE = 20;
+    private static final String[] SORTS = {"NEWEST", "PRICE_ASC", "PRICE_DESC"};
+
+    public enum Operation {
+        BROWSE("GET /api/products/catalog"),
+        DETAIL("GET /api/products/{id}"),
+        LOGIN("POST /api/members/login"),
+        ORDER("POST /api/orders");
+
+        private final String endpoint;
+
+        Operation(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public String endpoint() {
+            return endpoint;
+        }
+    }
+
+    public record Settings(URI baseUrl, int users, double rate, Duration warmup, Duration duration, Map<Operation, Integer> mix,
+                           int members, String password, int catalogSize, long seed, Path outputDir) {
+
+        public static Settings fromSystemProperties() {
+            return new Settings(
+                    URI.create(property("base-url", "http://localhost:8080")),
+                    Integer.parseInt(property("users", "50")),
+                    Double.parseDouble(property("rate", "0")),
+                    parseDuration(property("warmup", "10s")),
+                    parseDuration(property("duration", "60s")),
+                    parseMix(property("mix", "browse=60,detail=25,login=5,order=10")),
+                    Integer.parseInt(property("members", "10000")),
+                    property("password", "loadtest"),
+                    Integer.parseInt(property("catalog-size", "5000")),
+                    Long.parseLong(property("seed", "42")),
+                    Path.of(property("output-dir", "build/loadtest")));
+        }
+
+        private static String property(String name, String defaultValue) {
+            return System.getProperty("loadtest." + name, defaultValue);
+        }
+
+        // "30s", "2m" 형식
+        private static Duration parseDuration(String value) {
+            long amount = Long.parseLong(value.substring(0, value.length() - 1));
+            return switch (value.charAt(value.length() - 1)) {
+                case 's' -> Duration.ofSeconds(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                default -> throw new IllegalArgumentException("기간은 30s, 2m 형식이어야 합니다. value=" + value);
+            };
+        }
+
+        // "browse=60,detail=25,login=5,order=10" 형식 (빠진 항목은 0)
+        private static Map<Operation, Integer> parseMix(String value) {
+            Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+            for (String entry : value.split(",")) {
+                String[] pair = entry.trim().split("=");
+                mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+            }
+            return mix;
+        }
+    }
+
+    /**
+     * 엔드포인트 하나의 측정 결과
+     * - 지연 시간은 마이크로초 단위로 기록합니다. (최대 1분, 유효 숫자 3자리)
+     */
+    public static final class EndpointStats {
+
+        private final Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+
+        private void record(int status, long latencyNanos) {
+            latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), latency.getHighestTrackableValue()));
+            statuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+            if (status < 200 || status >= 300) {
+                errors.increment();
+            }
+        }
+
+        public Histogram latency() {
+            return latency;
+        }
+
+        public long count() {
+            return latency.getTotalCount();
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+
+        // 응답 코드별 건수 (연결 실패 등 응답을 받지 못한 요청은 -1)
+        public Map<Integer, Long> statuses() {
+            Map<Integer, Long> result = new TreeMap<>();
+            statuses.forEach((status, count) -> result.put(status, count.sum()));
+            return result;
+        }
+    }
+
+    public record Report(Map<Operation, EndpointStats> stats, double seconds, double targetRate) {
+
+        public void print(PrintStream out) {
+            double achievedRate = stats.values().stream().mapToLong(EndpointStats::count).sum() / seconds;
+            if (targetRate > 0) {
+                out.printf("측정 방식: open-loop, 목표 %.1f req/s, 실제 %.1f req/s (지연 시간은 예약된 발송 시각부터 잼)%n",
+                        targetRate, achievedRate);
+                if (achievedRate < targetRate * 0.95) {
+                    out.println("주의: 실제 처리량이 목표보다 낮습니다. users가 모자라 요청이 밀렸고, 밀린 시간은 지연 시간에 포함되었습니다.");
+                }
+            } else {
+                out.printf("측정 방식: closed-loop, %.1f req/s%n", achievedRate);
+                out.println("주의: 응답을 기다리는 동안 다음 요청을 보내지 않으므로 서버가 멈춘 동안의 대기 시간이 빠집니다. (Coordinated Omission)");
+                out.println("      꼬리 지연(p99 이상)은 실제보다 낮게 보일 수 있습니다. 지연 시간을 비교하려면 -Dloadtest.rate로 open-loop 모드를 쓰세요.");
+            }
+            out.printf("%-28s %9s %7s %9s %9s %9s %9s %9s %9s  %s%n",
+                    "endpoint", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "statuses");
+            stats.forEach((operation, endpoint) -> {
+                Histogram latency = endpoint.latency();
+                out.printf("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                        operation.endpoint(), endpoint.count(), endpoint.errors(), endpoint.count() / seconds,
+                        latency.getValueAtPercentile(50) / 1e3, latency.getValueAtPercentile(90) / 1e3,
+                        latency.getValueAtPercentile(99) / 1e3, latency.getValueAtPercentile(99.9) / 1e3,
+                        latency.getMaxValue() / 1e3, endpoint.statuses());
+            });
+        }
+
+        // 엔드포인트별 백분위 분포를 HdrHistogram 형식(.hgrm, ms 단위)으로 저장합니다.
+        public void write(Path outputDir) throws IOException {
+            Files.createDirectories(outputDir);
+            for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+                Path file = outputDir.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+                    entry.getValue().latency().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        }
+    }
+
+    private final Settings settings;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] weightedOperations;
+
+    public WorkloadRunner(Settings settings) {
+        this.settings = settings;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+
+        // 비율대로 작업을 펼쳐 두고 난수로 하나를 고릅니다.
+        List<Operation> operations = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            for (int i = 0; i < settings.mix().getOrDefault(operation, 0); i++) {
+                operations.add(operation);
+            }
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("mix의 비율 합이 0입니다.");
+        }
+        this.weightedOperations = operations.toArray(Operation[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        Report report = new WorkloadRunner(settings).run();
+        report.print(System.out);
+        report.write(settings.outputDir());
+        System.out.println("백분위 분포 저장: " + settings.outputDir().toAbsolutePath());
+    }
+
+    public Report run() throws Exception {
+        Catalog catalog = loadCatalog();
+
+        long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+        long until = measureFrom + settings.duration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.users());
+        try {
+            List<Future<?>> users = new ArrayList<>(settings.users());
+            for (int i = 0; i < settings.users(); i++) {
+                int index = i;
+                users.add(executor.submit(() -> {
+                    new VirtualUser(new SplittableRandom(settings.seed() + index), catalog, measureFrom).run(until);
+                    return null;
+                }));
+            }
+            for (Future<?> user : users) {
+                user.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Report(stats, settings.duration().toNanos() / 1e9, settings.rate());
+    }
+
+    // 상세/주문 대상 상품 ID와 카테고리 이름을 카탈로그 API로 미리 모아 둡니다. (측정 전)
+    private Catalog loadCatalog() throws IOException, InterruptedException {
+        List<Long> productIds = new ArrayList<>();
+        Set<String> categories = new LinkedHashSet<>();
+        String cursor = null;
+        do {
+            String query = "/api/products/catalog?limit=100" + (cursor == null ? "" : "&cursor=" + encode(cursor));
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(settings.baseUrl().resolve(query)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("카탈로그를 불러오지 못했습니다. status=" + response.statusCode());
+            }
+            JsonNode page = objectMapper.readTree(response.body());
+            for (JsonNode product : page.get("products")) {
+                productIds.add(product.get("id").asLong());
+                categories.add(product.get("categoryName").asText());
+            }
+            cursor = page.path("nextCursor").isTextual() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null && productIds.size() < settings.catalogSize());
+
+        if (productIds.isEmpty()) {
+            throw new IllegalStateException("상품이 없습니다. 앱을 loadtest 프로필로 실행했는지 확인하세요.");
+        }
+        return new Catalog(productIds.stream().mapToLong(Long::longValue).toArray(), categories.toArray(String[]::new));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private record Catalog(long[] productIds, String[] categories) {
+    }
+
+    /**
+     * 가상 사용자 한 명 (스레드 하나에서만 사용)
+     */
+    private final class VirtualUser {
+
+        private final SplittableRandom random;
+        private final Catalog catalog;
+        private final long measureFrom;
+        private String accessToken;
+        // open-loop에서 지금 요청이 예약된 시각 (0이면 보낸 시각부터 잽니다)
+        private long intendedAt;
+        // 이어서 볼 카탈로그 페이지 (같은 조건 + nextCursor)
+        private String browseQuery;
+        private String nextCursor;
+
+        private VirtualUser(SplittableRandom random, Catalog catalog, long measureFrom) {
+            this.random = random;
+            this.catalog = catalog;
+            this.measureFrom = measureFrom;
+        }
+
+        private void run(long until) throws Exception {
+            login();
+            if (settings.rate() <= 0) {
+                while (System.nanoTime() < until) {
+                    next();
+                }
+                return;
+            }
+
+            // open-loop: 사용자마다 users / rate 초 간격으로 요청을 예약합니다. (첫 예약은 간격 안에서 흩뜨림)
+            // - 앞 요청이 늦게 끝나 예약 시각이 지났으면 기다리지 않고 바로 보내고, 밀린 시간은 지연 시간에 넣습니다.
+            long interval = (long) (settings.users() * 1e9 / settings.rate());
+            long scheduled = System.nanoTime() + random.nextLong(Math.max(1, interval));
+            while (scheduled < until) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                intendedAt = scheduled;
+                next();
+                scheduled += interval;
+            }
+        }
+
+        private void next() throws Exception {
+            switch (weightedOperations[random.nextInt(weightedOperations.length)]) {
+                case BROWSE -> browse();
+                case DETAIL -> detail();
+                case LOGIN -> login();
+                case ORDER -> order();
+            }
+        }
+
+        private void browse() throws Exception {
+            String query;
+            if (nextCursor != null && random.nextBoolean()) {
+                query = browseQuery + "&cursor=" + encode(nextCursor);
+            } else {
+                browseQuery = "/api/products/catalog?limit=" + PAGE_SIZE + "&sort=" + SORTS[random.nextInt(SORTS.length)];
+                if (random.nextBoolean()) {
+                    browseQuery += "&category=" + encode(catalog.categories()[random.nextInt(catalog.categories().length)]);
+                }
+                query = browseQuery;
+            }
+
+            HttpResponse<String> response = send(Operation.BROWSE, request(query).GET().build());
+            nextCursor = null;
+            if (response != null && response.statusCode() == 200) {
+                JsonNode cursor = objectMapper.readTree(response.body()).path("nextCursor");
+                nextCursor = cursor.isTextual() ? cursor.asText() : null;
+            }
+        }
+
+        private void detail() throws Exception {
+            send(Operation.DETAIL, request("/api/products/" + randomProductId()).GET().build());
+        }
+
+        private void login() throws Exception {
+            String loginId = LoadTestDataGenerator.loginIdOf(1 + random.nextInt(settings.members()));
+            String body = objectMapper.writeValueAsString(Map.of("loginId", loginId, "password", settings.password()));
+            HttpResponse<String> response = send(Operation.LOGIN, request("/api/members/login")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+            if (response != null && response.statusCode() == 200) {
+                accessToken = objectMapper.readTree(response.body()).get("accessToken").asText();
+            }
+        }
+
+        private void order() throws Exception {
+            if (accessToken == null) {
+                login();
+                return;
+            }
+            String body = objectMapper.writeValueAsString(Map.of("productId", randomProductId(), "count", 1));
+            HttpResponse<String> response = send(Operation.ORDER, request("/api/orders")
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+            // 토큰이 만료되었으면 다음 주문 전에 다시 로그인합니다.
+            if (response != null && response.statusCode() == 401) {
+                accessToken = null;
+            }
+        }
+
+        private long randomProductId() {
+            return catalog.productIds()[random.nextInt(catalog.productIds().length)];
+        }
+
+        private HttpRequest.Builder request(String pathAndQuery) {
+            return HttpRequest.newBuilder(settings.baseUrl().resolve(pathAndQuery)).timeout(Duration.ofSeconds(30));
+        }
+
+        // 요청을 보내고 워밍업이 끝난 뒤에 보낸(예약된) 요청만 기록합니다. (응답을 받지 못하면 null)
+        // - open-loop에서는 예약된 시각부터 재므로, 앞 요청 때문에 늦게 보낸 시간도 지연 시간에 들어갑니다.
+        private HttpResponse<String> send(Operation operation, HttpRequest request) throws InterruptedException {
+            long sentAt = intendedAt > 0 ? intendedAt : System.nanoTime();
+            intendedAt = 0;
+            HttpResponse<String> response;
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                response = null;
+            }
+            if (sentAt >= measureFrom) {
+                stats.get(operation).record(response == null ? -1 : response.statusCode(), System.nanoTime() - sentAt);
+            }
+            return response;
+        }
+    }
+}